@@ -0,0 +1,15 @@
+package com.integraupt.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Habilita la ejecución de tareas programadas (refresco de cachés en memoria, etc.)
+ *
+ * @author IntegraUPT Team
+ * @version 1.0.0
+ */
+@Configuration
+@EnableScheduling
+public class clsConfigTareas {
+}
@@ -0,0 +1,40 @@
+package com.integraupt.controlador;
+
+import com.integraupt.dto.clsDTOResumenOcupacion;
+import com.integraupt.servicio.clsServicioAnaliticaReservas;
+import java.util.List;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Controlador REST que expone los indicadores de ocupación para el tablero administrativo.
+ */
+@RestController
+@RequestMapping("/api/analitica")
+public class clsControladorAnalitica {
+
+    private final clsServicioAnaliticaReservas servicioAnalitica;
+
+    public clsControladorAnalitica(clsServicioAnaliticaReservas servicioAnalitica) {
+        this.servicioAnalitica = servicioAnalitica;
+    }
+
+    @GetMapping("/ocupacion")
+    public ResponseEntity<clsDTOResumenOcupacion> resumenGlobal() {
+        return ResponseEntity.ok(servicioAnalitica.resumenGlobal());
+    }
+
+    /**
+     * Dimensiones disponibles: espacio, bloque, dia, escuela.
+     */
+    @GetMapping("/ocupacion/{dimension}")
+    public ResponseEntity<List<clsDTOResumenOcupacion>> resumenPorDimension(@PathVariable String dimension) {
+        if (!clsServicioAnaliticaReservas.DIMENSIONES.contains(dimension)) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(servicioAnalitica.resumen(dimension));
+    }
+}
@@ -27,7 +27,7 @@ public class clsControladorAuth {
     @PostMapping("/login")
     public ResponseEntity<clsDTOLoginResponse> login(@Valid @RequestBody clsDTOLoginRequest request) {
         clsDTOLoginResponse response = servicioAuth.autenticarUsuario(request);
-        HttpStatus status = response.isSuccess() ? HttpStatus.OK : HttpStatus.UNAUTHORIZED;
+        HttpStatus status = response.success() ? HttpStatus.OK : HttpStatus.UNAUTHORIZED;
         return ResponseEntity.status(status).body(response);
     }
 }
\ No newline at end of file
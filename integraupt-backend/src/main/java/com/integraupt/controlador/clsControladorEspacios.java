@@ -0,0 +1,39 @@
+package com.integraupt.controlador;
+
+import com.integraupt.dto.clsDTOEspacio;
+import com.integraupt.dto.clsDTOFiltroEspacios;
+import com.integraupt.servicio.clsServicioCatalogoEspacios;
+import java.util.List;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Controlador REST que expone la búsqueda en el catálogo de espacios.
+ */
+@RestController
+@RequestMapping("/api/espacios")
+public class clsControladorEspacios {
+
+    private final clsServicioCatalogoEspacios servicioCatalogoEspacios;
+
+    public clsControladorEspacios(clsServicioCatalogoEspacios servicioCatalogoEspacios) {
+        this.servicioCatalogoEspacios = servicioCatalogoEspacios;
+    }
+
+    /**
+     * Ejemplo: {@code GET /api/espacios?tipo=Laboratorio&facultadId=1&capacidadMin=20&equipamiento=proyector}
+     */
+    @GetMapping
+    public ResponseEntity<List<clsDTOEspacio>> buscar(clsDTOFiltroEspacios filtro) {
+        return ResponseEntity.ok(servicioCatalogoEspacios.buscar(filtro));
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<clsDTOEspacio> obtener(@PathVariable Integer id) {
+        clsDTOEspacio espacio = servicioCatalogoEspacios.obtener(id);
+        return espacio != null ? ResponseEntity.ok(espacio) : ResponseEntity.notFound().build();
+    }
+}
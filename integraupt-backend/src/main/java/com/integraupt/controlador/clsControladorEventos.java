@@ -0,0 +1,91 @@
+package com.integraupt.controlador;
+
+import com.integraupt.dto.clsDTOEvento;
+import com.integraupt.servicio.clsExportadorICalendar;
+import com.integraupt.servicio.clsServicioEventos;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Controlador REST que expone el calendario de eventos universitarios.
+ */
+@RestController
+@RequestMapping("/api/eventos")
+public class clsControladorEventos {
+
+    private static final int DIAS_POR_DEFECTO = 30;
+    private static final int MAX_DIAS_RANGO = 366;
+    private static final MediaType TEXT_CALENDAR = MediaType.parseMediaType("text/calendar;charset=UTF-8");
+
+    private final clsServicioEventos servicioEventos;
+    private final clsExportadorICalendar exportadorICalendar;
+
+    public clsControladorEventos(clsServicioEventos servicioEventos, clsExportadorICalendar exportadorICalendar) {
+        this.servicioEventos = servicioEventos;
+        this.exportadorICalendar = exportadorICalendar;
+    }
+
+    @GetMapping
+    public ResponseEntity<List<clsDTOEvento>> listar(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate desde,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate hasta) {
+        LocalDate inicio = desde != null ? desde : LocalDate.now();
+        LocalDate fin = hasta != null ? hasta : inicio.plusDays(DIAS_POR_DEFECTO);
+        if (!rangoValido(inicio, fin)) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(servicioEventos.consultarRango(inicio, fin));
+    }
+
+    @GetMapping("/mes/{anio}/{mes}")
+    public ResponseEntity<List<clsDTOEvento>> listarMes(@PathVariable int anio, @PathVariable int mes) {
+        YearMonth periodo;
+        try {
+            periodo = YearMonth.of(anio, mes);
+        } catch (DateTimeException ex) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(servicioEventos.consultarMes(periodo));
+    }
+
+    @GetMapping("/semana")
+    public ResponseEntity<List<clsDTOEvento>> listarSemana(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fecha) {
+        return ResponseEntity.ok(servicioEventos.consultarSemana(fecha != null ? fecha : LocalDate.now()));
+    }
+
+    @GetMapping("/calendario.ics")
+    public ResponseEntity<StreamingResponseBody> exportarICalendar(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate desde,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate hasta) {
+        LocalDate inicio = desde != null ? desde : LocalDate.now();
+        LocalDate fin = hasta != null ? hasta : inicio.plusDays(MAX_DIAS_RANGO - 1);
+        if (!rangoValido(inicio, fin)) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        List<clsDTOEvento> eventos = servicioEventos.consultarRango(inicio, fin);
+        StreamingResponseBody cuerpo = salida -> exportadorICalendar.escribir(eventos, salida);
+        return ResponseEntity.ok()
+                .contentType(TEXT_CALENDAR)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"eventos-upt.ics\"")
+                .body(cuerpo);
+    }
+
+    private boolean rangoValido(LocalDate desde, LocalDate hasta) {
+        return !hasta.isBefore(desde) && ChronoUnit.DAYS.between(desde, hasta) < MAX_DIAS_RANGO;
+    }
+}
@@ -0,0 +1,100 @@
+package com.integraupt.controlador;
+
+import com.integraupt.dto.clsDTOPaginaReservas;
+import com.integraupt.dto.clsDTOReservaRequest;
+import com.integraupt.dto.clsDTOSolicitudReserva;
+import com.integraupt.servicio.clsServicioColaReservas;
+import com.integraupt.servicio.clsServicioConsultaReservas;
+import jakarta.validation.Valid;
+import java.net.URI;
+import java.time.LocalDate;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Controlador REST que expone la recepción, el seguimiento y los listados de reservas.
+ */
+@RestController
+@RequestMapping("/api/reservas")
+public class clsControladorReservas {
+
+    private static final String SEGUNDOS_REINTENTO = "2";
+
+    private final clsServicioColaReservas servicioColaReservas;
+    private final clsServicioConsultaReservas servicioConsultaReservas;
+
+    public clsControladorReservas(clsServicioColaReservas servicioColaReservas,
+                                  clsServicioConsultaReservas servicioConsultaReservas) {
+        this.servicioColaReservas = servicioColaReservas;
+        this.servicioConsultaReservas = servicioConsultaReservas;
+    }
+
+    @PostMapping("/solicitudes")
+    public ResponseEntity<clsDTOSolicitudReserva> solicitar(@Valid @RequestBody clsDTOReservaRequest request) {
+        clsDTOSolicitudReserva estado = servicioColaReservas.encolar(request);
+
+        return switch (estado.getEstado()) {
+            case clsDTOSolicitudReserva.EN_COLA -> ResponseEntity.accepted()
+                    .location(URI.create("/api/reservas/solicitudes/" + estado.getTicket()))
+                    .body(estado);
+            case clsDTOSolicitudReserva.COLA_LLENA -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, SEGUNDOS_REINTENTO)
+                    .body(estado);
+            default -> ResponseEntity.badRequest().body(estado);
+        };
+    }
+
+    @GetMapping("/solicitudes/{ticket}")
+    public ResponseEntity<clsDTOSolicitudReserva> consultar(@PathVariable String ticket) {
+        clsDTOSolicitudReserva estado = servicioColaReservas.consultar(ticket);
+        return estado != null ? ResponseEntity.ok(estado) : ResponseEntity.notFound().build();
+    }
+
+    @GetMapping("/solicitudes/{ticket}/eventos")
+    public ResponseEntity<SseEmitter> suscribir(@PathVariable String ticket) {
+        SseEmitter emisor = servicioColaReservas.suscribir(ticket);
+        return emisor != null ? ResponseEntity.ok(emisor) : ResponseEntity.notFound().build();
+    }
+
+    @GetMapping("/usuario/{usuarioId}")
+    public ResponseEntity<clsDTOPaginaReservas> listarPorUsuario(
+            @PathVariable Integer usuarioId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limite) {
+        return ResponseEntity.ok(servicioConsultaReservas.listarPorUsuario(usuarioId, cursor, limite));
+    }
+
+    @GetMapping("/pendientes")
+    public ResponseEntity<clsDTOPaginaReservas> listarPendientes(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limite) {
+        return ResponseEntity.ok(servicioConsultaReservas.listarPorEstado(
+                clsServicioColaReservas.ESTADO_PENDIENTE, cursor, limite));
+    }
+
+    @GetMapping("/espacio/{espacioId}")
+    public ResponseEntity<clsDTOPaginaReservas> listarPorEspacio(
+            @PathVariable Integer espacioId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate desde,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate hasta,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limite) {
+        return ResponseEntity.ok(servicioConsultaReservas.listarPorEspacio(espacioId, desde, hasta, cursor, limite));
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Void> parametroInvalido() {
+        return ResponseEntity.badRequest().build();
+    }
+}
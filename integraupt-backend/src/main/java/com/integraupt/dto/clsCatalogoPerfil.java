@@ -0,0 +1,132 @@
+package com.integraupt.dto;
+
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Nombres de catálogo (roles, facultades, escuelas, estados) que se muestran en el perfil.
+ *
+ * <p>Todos los textos son constantes resueltas una sola vez: el servicio de autenticación
+ * obtiene siempre la misma instancia de {@link String} para cada identificador, y el
+ * serializador de {@link clsDTOLoginResponse.PerfilDTO} escribe su versión ya codificada
+ * en JSON en lugar de volver a escaparla en cada respuesta.</p>
+ */
+public final class clsCatalogoPerfil {
+
+    public static final String ESTADO_ACTIVO = "Activo";
+    public static final String ESTADO_INACTIVO = "Inactivo";
+    public static final String GENERO_MASCULINO = "Masculino";
+    public static final String GENERO_FEMENINO = "Femenino";
+    public static final String LOGIN_ACADEMICO = "academic";
+    public static final String LOGIN_ADMINISTRATIVO = "administrative";
+
+    private static final String[] ROLES = {
+            null,
+            "Profesor",
+            "Estudiante",
+            "Administrador"
+    };
+
+    private static final String[] FACULTADES = {
+            null,
+            "FAING",
+            "FADE",
+            "FACEM",
+            "FAEDCOH",
+            "FACSA",
+            "FAU"
+    };
+
+    private static final String[] ESCUELAS = {
+            null,
+            "Ing. Civil",
+            "Ing. de Sistemas",
+            "Ing. Electronica",
+            "Ing. Agroindustrial",
+            "Ing. Ambiental",
+            "Ing. Industrial",
+            "Derecho",
+            "Ciencias Contables y Financieras",
+            "Economia y Microfinanzas",
+            "Administracion",
+            "Administracion Turistico-Hotel",
+            "Administracion de Negocios Internacionales",
+            "Educacion",
+            "Ciencias de la Comunicacion",
+            "Humanidades - Psicologia",
+            "Medicina Humana",
+            "Odontologia",
+            "Tecnologia Medica",
+            "Arquitectura"
+    };
+
+    /** Máximo de identificadores desconocidos cuyo texto se conserva. */
+    private static final int MAX_DESCONOCIDOS = 256;
+
+    private static final Map<Integer, String> DESCONOCIDOS = new ConcurrentHashMap<>();
+
+    // Solo se escribe en el inicializador estático; después es de solo lectura.
+    private static final Map<String, SerializedString> CODIFICADOS = new IdentityHashMap<>();
+
+    static {
+        registrar(ROLES);
+        registrar(FACULTADES);
+        registrar(ESCUELAS);
+        registrar(new String[] {ESTADO_ACTIVO, ESTADO_INACTIVO, GENERO_MASCULINO, GENERO_FEMENINO,
+                LOGIN_ACADEMICO, LOGIN_ADMINISTRATIVO});
+    }
+
+    private clsCatalogoPerfil() {
+    }
+
+    public static String rol(Integer rolId) {
+        return buscar(ROLES, rolId);
+    }
+
+    public static String facultad(Integer facultadId) {
+        return buscar(FACULTADES, facultadId);
+    }
+
+    public static String escuela(Integer escuelaId) {
+        return buscar(ESCUELAS, escuelaId);
+    }
+
+    /**
+     * Devuelve la versión ya codificada en JSON de un texto de este catálogo.
+     *
+     * @param valor texto obtenido de este catálogo
+     * @return texto codificado, o {@code null} si el valor no es una constante del catálogo
+     */
+    public static SerializableString codificado(String valor) {
+        return CODIFICADOS.get(valor);
+    }
+
+    private static String buscar(String[] nombres, Integer id) {
+        if (id == null) {
+            return null;
+        }
+        if (id > 0 && id < nombres.length) {
+            return nombres[id];
+        }
+        // Identificadores fuera del catálogo: se muestra el número, reutilizando el texto ya generado.
+        String texto = DESCONOCIDOS.get(id);
+        if (texto == null) {
+            texto = id.toString();
+            if (DESCONOCIDOS.size() < MAX_DESCONOCIDOS) {
+                DESCONOCIDOS.putIfAbsent(id, texto);
+            }
+        }
+        return texto;
+    }
+
+    private static void registrar(String[] valores) {
+        for (String valor : valores) {
+            if (valor != null) {
+                CODIFICADOS.put(valor, new SerializedString(valor));
+            }
+        }
+    }
+}
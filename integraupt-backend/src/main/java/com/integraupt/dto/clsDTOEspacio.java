@@ -0,0 +1,79 @@
+package com.integraupt.dto;
+
+/**
+ * Vista inmutable de un espacio del catálogo, compartida entre peticiones desde el índice en memoria.
+ */
+public class clsDTOEspacio {
+
+    private final Integer id;
+    private final String codigo;
+    private final String nombre;
+    private final String tipo;
+    private final int capacidad;
+    private final String equipamiento;
+    private final Integer facultadId;
+    private final String facultad;
+    private final Integer escuelaId;
+    private final String escuela;
+    private final int estado;
+
+    public clsDTOEspacio(Integer id, String codigo, String nombre, String tipo, int capacidad,
+                         String equipamiento, Integer facultadId, String facultad, Integer escuelaId,
+                         String escuela, int estado) {
+        this.id = id;
+        this.codigo = codigo;
+        this.nombre = nombre;
+        this.tipo = tipo;
+        this.capacidad = capacidad;
+        this.equipamiento = equipamiento;
+        this.facultadId = facultadId;
+        this.facultad = facultad;
+        this.escuelaId = escuelaId;
+        this.escuela = escuela;
+        this.estado = estado;
+    }
+
+    public Integer getId() {
+        return id;
+    }
+
+    public String getCodigo() {
+        return codigo;
+    }
+
+    public String getNombre() {
+        return nombre;
+    }
+
+    public String getTipo() {
+        return tipo;
+    }
+
+    public int getCapacidad() {
+        return capacidad;
+    }
+
+    public String getEquipamiento() {
+        return equipamiento;
+    }
+
+    public Integer getFacultadId() {
+        return facultadId;
+    }
+
+    public String getFacultad() {
+        return facultad;
+    }
+
+    public Integer getEscuelaId() {
+        return escuelaId;
+    }
+
+    public String getEscuela() {
+        return escuela;
+    }
+
+    public int getEstado() {
+        return estado;
+    }
+}
@@ -0,0 +1,76 @@
+package com.integraupt.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Vista inmutable de un evento del calendario universitario.
+ * Las instancias se comparten entre peticiones desde la caché de eventos, por eso no exponen setters.
+ */
+public class clsDTOEvento {
+
+    private final String id;
+    private final String titulo;
+    private final String descripcion;
+    private final String estado;
+    private final LocalDateTime fechaInicio;
+    private final LocalDateTime fechaFin;
+    private final String imagenUrl;
+    private final String organizador;
+    private final String tipo;
+    private final String ubicacion;
+
+    public clsDTOEvento(String id, String titulo, String descripcion, String estado,
+                        LocalDateTime fechaInicio, LocalDateTime fechaFin, String imagenUrl,
+                        String organizador, String tipo, String ubicacion) {
+        this.id = id;
+        this.titulo = titulo;
+        this.descripcion = descripcion;
+        this.estado = estado;
+        this.fechaInicio = fechaInicio;
+        this.fechaFin = fechaFin;
+        this.imagenUrl = imagenUrl;
+        this.organizador = organizador;
+        this.tipo = tipo;
+        this.ubicacion = ubicacion;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getTitulo() {
+        return titulo;
+    }
+
+    public String getDescripcion() {
+        return descripcion;
+    }
+
+    public String getEstado() {
+        return estado;
+    }
+
+    public LocalDateTime getFechaInicio() {
+        return fechaInicio;
+    }
+
+    public LocalDateTime getFechaFin() {
+        return fechaFin;
+    }
+
+    public String getImagenUrl() {
+        return imagenUrl;
+    }
+
+    public String getOrganizador() {
+        return organizador;
+    }
+
+    public String getTipo() {
+        return tipo;
+    }
+
+    public String getUbicacion() {
+        return ubicacion;
+    }
+}
@@ -0,0 +1,78 @@
+package com.integraupt.dto;
+
+/**
+ * Criterios de búsqueda del catálogo de espacios. Todos son opcionales y se combinan con AND.
+ */
+public class clsDTOFiltroEspacios {
+
+    private String tipo;
+    private Integer facultadId;
+    private Integer escuelaId;
+    private Integer capacidadMin;
+    private Integer capacidadMax;
+    private Integer estado;
+    private String equipamiento;
+
+    public clsDTOFiltroEspacios() {
+        // Constructor por defecto
+    }
+
+    public String getTipo() {
+        return tipo;
+    }
+
+    public void setTipo(String tipo) {
+        this.tipo = tipo;
+    }
+
+    public Integer getFacultadId() {
+        return facultadId;
+    }
+
+    public void setFacultadId(Integer facultadId) {
+        this.facultadId = facultadId;
+    }
+
+    public Integer getEscuelaId() {
+        return escuelaId;
+    }
+
+    public void setEscuelaId(Integer escuelaId) {
+        this.escuelaId = escuelaId;
+    }
+
+    public Integer getCapacidadMin() {
+        return capacidadMin;
+    }
+
+    public void setCapacidadMin(Integer capacidadMin) {
+        this.capacidadMin = capacidadMin;
+    }
+
+    public Integer getCapacidadMax() {
+        return capacidadMax;
+    }
+
+    public void setCapacidadMax(Integer capacidadMax) {
+        this.capacidadMax = capacidadMax;
+    }
+
+    public Integer getEstado() {
+        return estado;
+    }
+
+    public void setEstado(Integer estado) {
+        this.estado = estado;
+    }
+
+    /**
+     * Palabras clave separadas por espacios o comas; se comparan por prefijo contra el equipamiento.
+     */
+    public String getEquipamiento() {
+        return equipamiento;
+    }
+
+    public void setEquipamiento(String equipamiento) {
+        this.equipamiento = equipamiento;
+    }
+}
@@ -1,25 +1,22 @@
 package com.integraupt.dto;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import java.io.IOException;
+
 /**
  * Respuesta genérica para el proceso de inicio de sesión.
+ *
+ * <p>Es inmutable y se serializa con escritores propios que usan nombres de campo ya
+ * codificados, evitando la introspección por reflexión de Jackson en cada inicio de sesión.
+ * El JSON resultante es el mismo que generaba la versión basada en getters.</p>
  */
-public class clsDTOLoginResponse {
-
-    private boolean success;
-    private String message;
-    private PerfilDTO perfil;
-    private String token;
-
-    public clsDTOLoginResponse() {
-        // Constructor por defecto
-    }
-
-    public clsDTOLoginResponse(boolean success, String message, PerfilDTO perfil, String token) {
-        this.success = success;
-        this.message = message;
-        this.perfil = perfil;
-        this.token = token;
-    }
+@JsonSerialize(using = clsDTOLoginResponse.Serializador.class)
+public record clsDTOLoginResponse(boolean success, String message, PerfilDTO perfil, String token) {
 
     public static clsDTOLoginResponse success(String message, PerfilDTO perfil, String token) {
         return new clsDTOLoginResponse(true, message, perfil, token);
@@ -29,190 +26,102 @@ public class clsDTOLoginResponse {
         return new clsDTOLoginResponse(false, message, null, null);
     }
 
-    public boolean isSuccess() {
-        return success;
-    }
-
-    public void setSuccess(boolean success) {
-        this.success = success;
-    }
-
-    public String getMessage() {
-        return message;
-    }
-
-    public void setMessage(String message) {
-        this.message = message;
-    }
-
-    public PerfilDTO getPerfil() {
-        return perfil;
-    }
-
-    public void setPerfil(PerfilDTO perfil) {
-        this.perfil = perfil;
-    }
-
-    public String getToken() {
-        return token;
-    }
-
-    public void setToken(String token) {
-        this.token = token;
-    }
-
     /**
      * DTO con la información relevante del perfil del usuario que inició sesión.
      */
-    public static class PerfilDTO {
-        private String id;
-        private String codigo;
-        private String nombres;
-        private String apellidos;
-        private String email;
-        private String rol;
-        private String tipoLogin;
-        private String avatarUrl;
-        private String estado;
-        private String celular;
-        private String escuela;
-        private String facultad;
-        private String genero;
-        private String numeroDocumento;
-
-        public PerfilDTO() {
-            // Constructor por defecto
-        }
-
-        public PerfilDTO(String id, String codigo, String nombres, String apellidos, String email,
-                         String rol, String tipoLogin, String avatarUrl, String estado, String celular,
-                         String escuela, String facultad, String genero, String numeroDocumento) {
-            this.id = id;
-            this.codigo = codigo;
-            this.nombres = nombres;
-            this.apellidos = apellidos;
-            this.email = email;
-            this.rol = rol;
-            this.tipoLogin = tipoLogin;
-            this.avatarUrl = avatarUrl;
-            this.estado = estado;
-            this.celular = celular;
-            this.escuela = escuela;
-            this.facultad = facultad;
-            this.genero = genero;
-            this.numeroDocumento = numeroDocumento;
-        }
-
-        public String getId() {
-            return id;
-        }
-
-        public void setId(String id) {
-            this.id = id;
-        }
-
-        public String getCodigo() {
-            return codigo;
-        }
-
-        public void setCodigo(String codigo) {
-            this.codigo = codigo;
-        }
-
-        public String getNombres() {
-            return nombres;
-        }
-
-        public void setNombres(String nombres) {
-            this.nombres = nombres;
-        }
-
-        public String getApellidos() {
-            return apellidos;
-        }
-
-        public void setApellidos(String apellidos) {
-            this.apellidos = apellidos;
-        }
-
-        public String getEmail() {
-            return email;
-        }
-
-        public void setEmail(String email) {
-            this.email = email;
-        }
-
-        public String getRol() {
-            return rol;
-        }
-
-        public void setRol(String rol) {
-            this.rol = rol;
-        }
-
-        public String getTipoLogin() {
-            return tipoLogin;
-        }
-
-        public void setTipoLogin(String tipoLogin) {
-            this.tipoLogin = tipoLogin;
-        }
-
-        public String getAvatarUrl() {
-            return avatarUrl;
-        }
-
-        public void setAvatarUrl(String avatarUrl) {
-            this.avatarUrl = avatarUrl;
-        }
-
-        public String getEstado() {
-            return estado;
-        }
-
-        public void setEstado(String estado) {
-            this.estado = estado;
-        }
-
-        public String getCelular() {
-            return celular;
-        }
-
-        public void setCelular(String celular) {
-            this.celular = celular;
-        }
-
-        public String getEscuela() {
-            return escuela;
-        }
-
-        public void setEscuela(String escuela) {
-            this.escuela = escuela;
-        }
-
-        public String getFacultad() {
-            return facultad;
-        }
-
-        public void setFacultad(String facultad) {
-            this.facultad = facultad;
-        }
-
-        public String getGenero() {
-            return genero;
-        }
-
-        public void setGenero(String genero) {
-            this.genero = genero;
+    @JsonSerialize(using = PerfilDTO.Serializador.class)
+    public record PerfilDTO(String id, String codigo, String nombres, String apellidos, String email,
+                            String rol, String tipoLogin, String avatarUrl, String estado, String celular,
+                            String escuela, String facultad, String genero, String numeroDocumento) {
+
+        public static final class Serializador extends StdSerializer<PerfilDTO> {
+
+            private static final SerializableString ID = new SerializedString("id");
+            private static final SerializableString CODIGO = new SerializedString("codigo");
+            private static final SerializableString NOMBRES = new SerializedString("nombres");
+            private static final SerializableString APELLIDOS = new SerializedString("apellidos");
+            private static final SerializableString EMAIL = new SerializedString("email");
+            private static final SerializableString ROL = new SerializedString("rol");
+            private static final SerializableString TIPO_LOGIN = new SerializedString("tipoLogin");
+            private static final SerializableString AVATAR_URL = new SerializedString("avatarUrl");
+            private static final SerializableString ESTADO = new SerializedString("estado");
+            private static final SerializableString CELULAR = new SerializedString("celular");
+            private static final SerializableString ESCUELA = new SerializedString("escuela");
+            private static final SerializableString FACULTAD = new SerializedString("facultad");
+            private static final SerializableString GENERO = new SerializedString("genero");
+            private static final SerializableString NUMERO_DOCUMENTO = new SerializedString("numeroDocumento");
+
+            static final Serializador INSTANCIA = new Serializador();
+
+            public Serializador() {
+                super(PerfilDTO.class);
+            }
+
+            @Override
+            public void serialize(PerfilDTO perfil, JsonGenerator gen, SerializerProvider provider) throws IOException {
+                gen.writeStartObject(perfil);
+                escribir(gen, ID, perfil.id());
+                escribir(gen, CODIGO, perfil.codigo());
+                escribir(gen, NOMBRES, perfil.nombres());
+                escribir(gen, APELLIDOS, perfil.apellidos());
+                escribir(gen, EMAIL, perfil.email());
+                escribir(gen, ROL, perfil.rol());
+                escribir(gen, TIPO_LOGIN, perfil.tipoLogin());
+                escribir(gen, AVATAR_URL, perfil.avatarUrl());
+                escribir(gen, ESTADO, perfil.estado());
+                escribir(gen, CELULAR, perfil.celular());
+                escribir(gen, ESCUELA, perfil.escuela());
+                escribir(gen, FACULTAD, perfil.facultad());
+                escribir(gen, GENERO, perfil.genero());
+                escribir(gen, NUMERO_DOCUMENTO, perfil.numeroDocumento());
+                gen.writeEndObject();
+            }
         }
+    }
 
-        public String getNumeroDocumento() {
-            return numeroDocumento;
+    public static final class Serializador extends StdSerializer<clsDTOLoginResponse> {
+
+        private static final SerializableString SUCCESS = new SerializedString("success");
+        private static final SerializableString MESSAGE = new SerializedString("message");
+        private static final SerializableString PERFIL = new SerializedString("perfil");
+        private static final SerializableString TOKEN = new SerializedString("token");
+
+        public Serializador() {
+            super(clsDTOLoginResponse.class);
+        }
+
+        @Override
+        public void serialize(clsDTOLoginResponse respuesta, JsonGenerator gen, SerializerProvider provider)
+                throws IOException {
+            gen.writeStartObject(respuesta);
+            gen.writeFieldName(SUCCESS);
+            gen.writeBoolean(respuesta.success());
+            escribir(gen, MESSAGE, respuesta.message());
+            gen.writeFieldName(PERFIL);
+            if (respuesta.perfil() == null) {
+                gen.writeNull();
+            } else {
+                PerfilDTO.Serializador.INSTANCIA.serialize(respuesta.perfil(), gen, provider);
+            }
+            escribir(gen, TOKEN, respuesta.token());
+            gen.writeEndObject();
         }
+    }
 
-        public void setNumeroDocumento(String numeroDocumento) {
-            this.numeroDocumento = numeroDocumento;
+    /**
+     * Escribe un campo de texto; los valores de {@link clsCatalogoPerfil} se emiten ya codificados.
+     */
+    private static void escribir(JsonGenerator gen, SerializableString nombre, String valor) throws IOException {
+        gen.writeFieldName(nombre);
+        if (valor == null) {
+            gen.writeNull();
+            return;
+        }
+        SerializableString codificado = clsCatalogoPerfil.codificado(valor);
+        if (codificado != null) {
+            gen.writeString(codificado);
+        } else {
+            gen.writeString(valor);
         }
     }
-}
\ No newline at end of file
+}
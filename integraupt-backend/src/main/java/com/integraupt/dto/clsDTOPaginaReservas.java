@@ -0,0 +1,30 @@
+package com.integraupt.dto;
+
+import java.util.List;
+
+/**
+ * Página de un listado de reservas. Para pedir la siguiente se envía {@code siguienteCursor}
+ * como parámetro {@code cursor}; es {@code null} cuando no quedan más resultados.
+ */
+public class clsDTOPaginaReservas {
+
+    private final List<clsDTOReservaListado> reservas;
+    private final String siguienteCursor;
+
+    public clsDTOPaginaReservas(List<clsDTOReservaListado> reservas, String siguienteCursor) {
+        this.reservas = reservas;
+        this.siguienteCursor = siguienteCursor;
+    }
+
+    public List<clsDTOReservaListado> getReservas() {
+        return reservas;
+    }
+
+    public String getSiguienteCursor() {
+        return siguienteCursor;
+    }
+
+    public boolean isHayMas() {
+        return siguienteCursor != null;
+    }
+}
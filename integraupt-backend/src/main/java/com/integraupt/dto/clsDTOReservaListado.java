@@ -0,0 +1,117 @@
+package com.integraupt.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * Fila de los listados de reservas con los datos del usuario, el espacio y el bloque.
+ * Se construye directamente desde la consulta JPQL ({@code SELECT new ...}), sin cargar entidades.
+ */
+public class clsDTOReservaListado {
+
+    private final Integer idReserva;
+    private final LocalDate fechaReserva;
+    private final String estado;
+    private final LocalDateTime fechaSolicitud;
+    private final String descripcion;
+    private final String motivo;
+    private final Integer usuarioId;
+    private final String usuarioNombre;
+    private final String usuarioCodigo;
+    private final Integer espacioId;
+    private final String espacioCodigo;
+    private final String espacioNombre;
+    private final Integer bloqueId;
+    private final String bloqueNombre;
+    private final LocalTime horaInicio;
+    private final LocalTime horaFinal;
+
+    public clsDTOReservaListado(Integer idReserva, LocalDate fechaReserva, String estado,
+                                LocalDateTime fechaSolicitud, String descripcion, String motivo,
+                                Integer usuarioId, String usuarioNombres, String usuarioApellidos,
+                                String usuarioCodigo, Integer espacioId, String espacioCodigo,
+                                String espacioNombre, Integer bloqueId, String bloqueNombre,
+                                LocalTime horaInicio, LocalTime horaFinal) {
+        this.idReserva = idReserva;
+        this.fechaReserva = fechaReserva;
+        this.estado = estado;
+        this.fechaSolicitud = fechaSolicitud;
+        this.descripcion = descripcion;
+        this.motivo = motivo;
+        this.usuarioId = usuarioId;
+        this.usuarioNombre = usuarioNombres + " " + usuarioApellidos;
+        this.usuarioCodigo = usuarioCodigo;
+        this.espacioId = espacioId;
+        this.espacioCodigo = espacioCodigo;
+        this.espacioNombre = espacioNombre;
+        this.bloqueId = bloqueId;
+        this.bloqueNombre = bloqueNombre;
+        this.horaInicio = horaInicio;
+        this.horaFinal = horaFinal;
+    }
+
+    public Integer getIdReserva() {
+        return idReserva;
+    }
+
+    public LocalDate getFechaReserva() {
+        return fechaReserva;
+    }
+
+    public String getEstado() {
+        return estado;
+    }
+
+    public LocalDateTime getFechaSolicitud() {
+        return fechaSolicitud;
+    }
+
+    public String getDescripcion() {
+        return descripcion;
+    }
+
+    public String getMotivo() {
+        return motivo;
+    }
+
+    public Integer getUsuarioId() {
+        return usuarioId;
+    }
+
+    public String getUsuarioNombre() {
+        return usuarioNombre;
+    }
+
+    public String getUsuarioCodigo() {
+        return usuarioCodigo;
+    }
+
+    public Integer getEspacioId() {
+        return espacioId;
+    }
+
+    public String getEspacioCodigo() {
+        return espacioCodigo;
+    }
+
+    public String getEspacioNombre() {
+        return espacioNombre;
+    }
+
+    public Integer getBloqueId() {
+        return bloqueId;
+    }
+
+    public String getBloqueNombre() {
+        return bloqueNombre;
+    }
+
+    public LocalTime getHoraInicio() {
+        return horaInicio;
+    }
+
+    public LocalTime getHoraFinal() {
+        return horaFinal;
+    }
+}
@@ -0,0 +1,72 @@
+package com.integraupt.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.time.LocalDate;
+
+/**
+ * Datos enviados por el usuario para solicitar la reserva de un espacio.
+ */
+public class clsDTOReservaRequest {
+
+    @NotNull(message = "El usuario es obligatorio")
+    private Integer usuarioId;
+
+    @NotNull(message = "El espacio es obligatorio")
+    private Integer espacioId;
+
+    @NotNull(message = "La fecha de reserva es obligatoria")
+    private LocalDate fechaReserva;
+
+    @NotNull(message = "El bloque horario es obligatorio")
+    private Integer bloqueId;
+
+    @NotBlank(message = "La descripción es obligatoria")
+    @Size(max = 255, message = "La descripción no puede superar los 255 caracteres")
+    private String descripcion;
+
+    public clsDTOReservaRequest() {
+        // Constructor por defecto
+    }
+
+    public Integer getUsuarioId() {
+        return usuarioId;
+    }
+
+    public void setUsuarioId(Integer usuarioId) {
+        this.usuarioId = usuarioId;
+    }
+
+    public Integer getEspacioId() {
+        return espacioId;
+    }
+
+    public void setEspacioId(Integer espacioId) {
+        this.espacioId = espacioId;
+    }
+
+    public LocalDate getFechaReserva() {
+        return fechaReserva;
+    }
+
+    public void setFechaReserva(LocalDate fechaReserva) {
+        this.fechaReserva = fechaReserva;
+    }
+
+    public Integer getBloqueId() {
+        return bloqueId;
+    }
+
+    public void setBloqueId(Integer bloqueId) {
+        this.bloqueId = bloqueId;
+    }
+
+    public String getDescripcion() {
+        return descripcion;
+    }
+
+    public void setDescripcion(String descripcion) {
+        this.descripcion = descripcion;
+    }
+}
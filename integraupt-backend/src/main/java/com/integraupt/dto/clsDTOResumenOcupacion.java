@@ -0,0 +1,75 @@
+package com.integraupt.dto;
+
+import java.util.Map;
+
+/**
+ * Resumen de reservas para un valor de una dimensión (un espacio, un bloque, un día o una escuela).
+ */
+public class clsDTOResumenOcupacion {
+
+    private final String dimension;
+    private final String valor;
+    private final String etiqueta;
+    private final Map<String, Long> porEstado;
+    private final long total;
+    private final long aprobadas;
+    private final long rechazadas;
+    private final double tasaAprobacion;
+    private final double tasaRechazo;
+
+    public clsDTOResumenOcupacion(String dimension, String valor, String etiqueta, Map<String, Long> porEstado,
+                                  long aprobadas, long rechazadas) {
+        this.dimension = dimension;
+        this.valor = valor;
+        this.etiqueta = etiqueta;
+        this.porEstado = Map.copyOf(porEstado);
+        this.total = porEstado.values().stream().mapToLong(Long::longValue).sum();
+        this.aprobadas = aprobadas;
+        this.rechazadas = rechazadas;
+        long decididas = aprobadas + rechazadas;
+        this.tasaAprobacion = decididas > 0 ? (double) aprobadas / decididas : 0.0;
+        this.tasaRechazo = decididas > 0 ? (double) rechazadas / decididas : 0.0;
+    }
+
+    public String getDimension() {
+        return dimension;
+    }
+
+    public String getValor() {
+        return valor;
+    }
+
+    public String getEtiqueta() {
+        return etiqueta;
+    }
+
+    public Map<String, Long> getPorEstado() {
+        return porEstado;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    /**
+     * Reservas aprobadas: equivale a las franjas efectivamente ocupadas.
+     */
+    public long getAprobadas() {
+        return aprobadas;
+    }
+
+    public long getRechazadas() {
+        return rechazadas;
+    }
+
+    /**
+     * Aprobadas sobre el total de solicitudes ya decididas (aprobadas + rechazadas).
+     */
+    public double getTasaAprobacion() {
+        return tasaAprobacion;
+    }
+
+    public double getTasaRechazo() {
+        return tasaRechazo;
+    }
+}
@@ -0,0 +1,88 @@
+package com.integraupt.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Estado de una solicitud de reserva recibida por la cola de ingreso.
+ * Cada cambio de estado genera una nueva instancia; las existentes no se modifican.
+ */
+public class clsDTOSolicitudReserva {
+
+    public static final String EN_COLA = "EN_COLA";
+    public static final String REGISTRADA = "REGISTRADA";
+    public static final String RECHAZADA = "RECHAZADA";
+    public static final String ERROR = "ERROR";
+    public static final String COLA_LLENA = "COLA_LLENA";
+
+    private final String ticket;
+    private final String estado;
+    private final String mensaje;
+    private final Integer espacioId;
+    private final Integer idReserva;
+    private final LocalDateTime actualizado;
+
+    public clsDTOSolicitudReserva(String ticket, String estado, String mensaje, Integer espacioId,
+                                  Integer idReserva, LocalDateTime actualizado) {
+        this.ticket = ticket;
+        this.estado = estado;
+        this.mensaje = mensaje;
+        this.espacioId = espacioId;
+        this.idReserva = idReserva;
+        this.actualizado = actualizado;
+    }
+
+    public static clsDTOSolicitudReserva enCola(String ticket, Integer espacioId) {
+        return new clsDTOSolicitudReserva(ticket, EN_COLA, "Solicitud recibida, en espera de procesamiento",
+                espacioId, null, LocalDateTime.now());
+    }
+
+    public static clsDTOSolicitudReserva registrada(String ticket, Integer espacioId, Integer idReserva) {
+        return new clsDTOSolicitudReserva(ticket, REGISTRADA, "Reserva registrada, pendiente de aprobación",
+                espacioId, idReserva, LocalDateTime.now());
+    }
+
+    public static clsDTOSolicitudReserva rechazada(String ticket, Integer espacioId, String mensaje) {
+        return new clsDTOSolicitudReserva(ticket, RECHAZADA, mensaje, espacioId, null, LocalDateTime.now());
+    }
+
+    public static clsDTOSolicitudReserva error(String ticket, Integer espacioId, String mensaje) {
+        return new clsDTOSolicitudReserva(ticket, ERROR, mensaje, espacioId, null, LocalDateTime.now());
+    }
+
+    public static clsDTOSolicitudReserva colaLlena(Integer espacioId) {
+        return new clsDTOSolicitudReserva(null, COLA_LLENA,
+                "El sistema está recibiendo demasiadas solicitudes para este espacio, intente nuevamente",
+                espacioId, null, LocalDateTime.now());
+    }
+
+    /**
+     * @return {@code true} si la solicitud ya no cambiará de estado
+     */
+    public boolean isFinalizada() {
+        return !EN_COLA.equals(estado);
+    }
+
+    public String getTicket() {
+        return ticket;
+    }
+
+    public String getEstado() {
+        return estado;
+    }
+
+    public String getMensaje() {
+        return mensaje;
+    }
+
+    public Integer getEspacioId() {
+        return espacioId;
+    }
+
+    public Integer getIdReserva() {
+        return idReserva;
+    }
+
+    public LocalDateTime getActualizado() {
+        return actualizado;
+    }
+}
@@ -0,0 +1,110 @@
+package com.integraupt.entidad;
+
+import jakarta.persistence.*;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Contador acumulado de reservas por dimensión (espacio, bloque, día, escuela) y estado.
+ */
+@Entity
+@Table(name = "analitica_reservas")
+public class clsEntidadAnaliticaReserva {
+
+    @EmbeddedId
+    private Clave clave;
+
+    @Column(name = "Total", nullable = false)
+    private Long total;
+
+    @Column(name = "Actualizado", nullable = false)
+    private LocalDateTime actualizado;
+
+    public clsEntidadAnaliticaReserva() {}
+
+    // Getters y Setters
+
+    public Clave getClave() {
+        return clave;
+    }
+
+    public void setClave(Clave clave) {
+        this.clave = clave;
+    }
+
+    public Long getTotal() {
+        return total;
+    }
+
+    public void setTotal(Long total) {
+        this.total = total;
+    }
+
+    public LocalDateTime getActualizado() {
+        return actualizado;
+    }
+
+    public void setActualizado(LocalDateTime actualizado) {
+        this.actualizado = actualizado;
+    }
+
+    /**
+     * Clave compuesta del contador.
+     */
+    @Embeddable
+    public static class Clave implements Serializable {
+
+        @Column(name = "Dimension", nullable = false, length = 20)
+        private String dimension;
+
+        @Column(name = "Valor", nullable = false, length = 50)
+        private String valor;
+
+        @Column(name = "Estado", nullable = false, length = 50)
+        private String estado;
+
+        public Clave() {}
+
+        public String getDimension() {
+            return dimension;
+        }
+
+        public void setDimension(String dimension) {
+            this.dimension = dimension;
+        }
+
+        public String getValor() {
+            return valor;
+        }
+
+        public void setValor(String valor) {
+            this.valor = valor;
+        }
+
+        public String getEstado() {
+            return estado;
+        }
+
+        public void setEstado(String estado) {
+            this.estado = estado;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Clave otra)) {
+                return false;
+            }
+            return Objects.equals(dimension, otra.dimension) && Objects.equals(valor, otra.valor)
+                    && Objects.equals(estado, otra.estado);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(dimension, valor, estado);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.integraupt.entidad;
+
+import jakarta.persistence.*;
+import java.time.LocalTime;
+
+/**
+ * Entidad que representa los bloques horarios en los que se divide el día académico.
+ */
+@Entity
+@Table(name = "bloqueshorarios")
+public class clsEntidadBloqueHorario {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "IdBloque")
+    private Integer id;
+
+    @Column(name = "Orden", nullable = false)
+    private Integer orden;
+
+    @Column(name = "Nombre", nullable = false, length = 50)
+    private String nombre;
+
+    @Column(name = "HoraInicio", nullable = false)
+    private LocalTime horaInicio;
+
+    @Column(name = "HoraFinal", nullable = false)
+    private LocalTime horaFinal;
+
+    public clsEntidadBloqueHorario() {}
+
+    // Getters y Setters
+
+    public Integer getId() {
+        return id;
+    }
+
+    public void setId(Integer id) {
+        this.id = id;
+    }
+
+    public Integer getOrden() {
+        return orden;
+    }
+
+    public void setOrden(Integer orden) {
+        this.orden = orden;
+    }
+
+    public String getNombre() {
+        return nombre;
+    }
+
+    public void setNombre(String nombre) {
+        this.nombre = nombre;
+    }
+
+    public LocalTime getHoraInicio() {
+        return horaInicio;
+    }
+
+    public void setHoraInicio(LocalTime horaInicio) {
+        this.horaInicio = horaInicio;
+    }
+
+    public LocalTime getHoraFinal() {
+        return horaFinal;
+    }
+
+    public void setHoraFinal(LocalTime horaFinal) {
+        this.horaFinal = horaFinal;
+    }
+}
@@ -0,0 +1,80 @@
+package com.integraupt.entidad;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Entrada del registro de cambios usado para invalidar cachés en memoria entre nodos.
+ */
+@Entity
+@Table(name = "cambios_cache")
+public class clsEntidadCambioCache {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "IdCambio")
+    private Long id;
+
+    @Column(name = "Cache", nullable = false, length = 50)
+    private String cache;
+
+    @Column(name = "Clave", length = 100)
+    private String clave;
+
+    @Column(name = "Nodo", nullable = false, length = 64)
+    private String nodo;
+
+    @Column(name = "Fecha", nullable = false)
+    private LocalDateTime fecha;
+
+    public clsEntidadCambioCache() {}
+
+    public clsEntidadCambioCache(String cache, String clave, String nodo, LocalDateTime fecha) {
+        this.cache = cache;
+        this.clave = clave;
+        this.nodo = nodo;
+        this.fecha = fecha;
+    }
+
+    // Getters y Setters
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getCache() {
+        return cache;
+    }
+
+    public void setCache(String cache) {
+        this.cache = cache;
+    }
+
+    public String getClave() {
+        return clave;
+    }
+
+    public void setClave(String clave) {
+        this.clave = clave;
+    }
+
+    public String getNodo() {
+        return nodo;
+    }
+
+    public void setNodo(String nodo) {
+        this.nodo = nodo;
+    }
+
+    public LocalDateTime getFecha() {
+        return fecha;
+    }
+
+    public void setFecha(LocalDateTime fecha) {
+        this.fecha = fecha;
+    }
+}
@@ -0,0 +1,50 @@
+package com.integraupt.entidad;
+
+import jakarta.persistence.*;
+
+/**
+ * Entidad que representa una escuela profesional y la facultad a la que pertenece.
+ */
+@Entity
+@Table(name = "escuela")
+public class clsEntidadEscuela {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "IdEscuela")
+    private Integer id;
+
+    @Column(name = "IdFacultad", nullable = false)
+    private Integer facultadId;
+
+    @Column(name = "Nombre", nullable = false, length = 50)
+    private String nombre;
+
+    public clsEntidadEscuela() {}
+
+    // Getters y Setters
+
+    public Integer getId() {
+        return id;
+    }
+
+    public void setId(Integer id) {
+        this.id = id;
+    }
+
+    public Integer getFacultadId() {
+        return facultadId;
+    }
+
+    public void setFacultadId(Integer facultadId) {
+        this.facultadId = facultadId;
+    }
+
+    public String getNombre() {
+        return nombre;
+    }
+
+    public void setNombre(String nombre) {
+        this.nombre = nombre;
+    }
+}
@@ -0,0 +1,116 @@
+package com.integraupt.entidad;
+
+import jakarta.persistence.*;
+
+/**
+ * Entidad que representa los espacios reservables (laboratorios y salones).
+ */
+@Entity
+@Table(name = "espacio")
+public class clsEntidadEspacio {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "IdEspacio")
+    private Integer id;
+
+    @Column(name = "Codigo", nullable = false, length = 20)
+    private String codigo;
+
+    @Column(name = "Nombre", nullable = false, length = 100)
+    private String nombre;
+
+    @Column(name = "Tipo", nullable = false)
+    private String tipo;
+
+    @Column(name = "Capacidad", nullable = false)
+    private Integer capacidad;
+
+    @Column(name = "Equipamiento", columnDefinition = "text")
+    private String equipamiento;
+
+    @Column(name = "Facultad", nullable = false)
+    private Integer facultadId;
+
+    @Column(name = "Escuela", nullable = false)
+    private Integer escuelaId;
+
+    @Column(name = "Estado", nullable = false)
+    private Integer estado;
+
+    public clsEntidadEspacio() {}
+
+    // Getters y Setters
+
+    public Integer getId() {
+        return id;
+    }
+
+    public void setId(Integer id) {
+        this.id = id;
+    }
+
+    public String getCodigo() {
+        return codigo;
+    }
+
+    public void setCodigo(String codigo) {
+        this.codigo = codigo;
+    }
+
+    public String getNombre() {
+        return nombre;
+    }
+
+    public void setNombre(String nombre) {
+        this.nombre = nombre;
+    }
+
+    public String getTipo() {
+        return tipo;
+    }
+
+    public void setTipo(String tipo) {
+        this.tipo = tipo;
+    }
+
+    public Integer getCapacidad() {
+        return capacidad;
+    }
+
+    public void setCapacidad(Integer capacidad) {
+        this.capacidad = capacidad;
+    }
+
+    public String getEquipamiento() {
+        return equipamiento;
+    }
+
+    public void setEquipamiento(String equipamiento) {
+        this.equipamiento = equipamiento;
+    }
+
+    public Integer getFacultadId() {
+        return facultadId;
+    }
+
+    public void setFacultadId(Integer facultadId) {
+        this.facultadId = facultadId;
+    }
+
+    public Integer getEscuelaId() {
+        return escuelaId;
+    }
+
+    public void setEscuelaId(Integer escuelaId) {
+        this.escuelaId = escuelaId;
+    }
+
+    public Integer getEstado() {
+        return estado;
+    }
+
+    public void setEstado(Integer estado) {
+        this.estado = estado;
+    }
+}
@@ -0,0 +1,39 @@
+package com.integraupt.entidad;
+
+import jakarta.persistence.*;
+
+/**
+ * Entidad que representa una facultad de la universidad.
+ */
+@Entity
+@Table(name = "facultad")
+public class clsEntidadFacultad {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "IdFacultad")
+    private Integer id;
+
+    @Column(name = "Nombre", nullable = false, length = 10)
+    private String nombre;
+
+    public clsEntidadFacultad() {}
+
+    // Getters y Setters
+
+    public Integer getId() {
+        return id;
+    }
+
+    public void setId(Integer id) {
+        this.id = id;
+    }
+
+    public String getNombre() {
+        return nombre;
+    }
+
+    public void setNombre(String nombre) {
+        this.nombre = nombre;
+    }
+}
@@ -0,0 +1,144 @@
+package com.integraupt.entidad;
+
+import jakarta.persistence.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Entidad que representa las reservas de espacios (laboratorios y salones).
+ */
+@Entity
+@Table(name = "reserva")
+public class clsEntidadReserva {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "IdReserva")
+    private Integer id;
+
+    @Column(name = "usuario", nullable = false)
+    private Integer usuarioId;
+
+    @Column(name = "espacio", nullable = false)
+    private Integer espacioId;
+
+    @Column(name = "fechaReserva", nullable = false)
+    private LocalDate fechaReserva;
+
+    @Column(name = "bloque", nullable = false)
+    private Integer bloqueId;
+
+    @Column(name = "estado", nullable = false, length = 50)
+    private String estado;
+
+    @Column(name = "fechaSolicitud", nullable = false)
+    private LocalDateTime fechaSolicitud;
+
+    @Column(name = "Descripcion", nullable = false, columnDefinition = "text")
+    private String descripcion;
+
+    @Column(name = "Motivo", columnDefinition = "tinytext")
+    private String motivo;
+
+    // Relaciones de solo lectura sobre las mismas columnas; las escrituras usan los identificadores.
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "usuario", insertable = false, updatable = false)
+    private clsEntidadUsuario usuario;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "espacio", insertable = false, updatable = false)
+    private clsEntidadEspacio espacio;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "bloque", insertable = false, updatable = false)
+    private clsEntidadBloqueHorario bloque;
+
+    public clsEntidadReserva() {}
+
+    // Getters y Setters
+
+    public Integer getId() {
+        return id;
+    }
+
+    public void setId(Integer id) {
+        this.id = id;
+    }
+
+    public Integer getUsuarioId() {
+        return usuarioId;
+    }
+
+    public void setUsuarioId(Integer usuarioId) {
+        this.usuarioId = usuarioId;
+    }
+
+    public Integer getEspacioId() {
+        return espacioId;
+    }
+
+    public void setEspacioId(Integer espacioId) {
+        this.espacioId = espacioId;
+    }
+
+    public LocalDate getFechaReserva() {
+        return fechaReserva;
+    }
+
+    public void setFechaReserva(LocalDate fechaReserva) {
+        this.fechaReserva = fechaReserva;
+    }
+
+    public Integer getBloqueId() {
+        return bloqueId;
+    }
+
+    public void setBloqueId(Integer bloqueId) {
+        this.bloqueId = bloqueId;
+    }
+
+    public String getEstado() {
+        return estado;
+    }
+
+    public void setEstado(String estado) {
+        this.estado = estado;
+    }
+
+    public LocalDateTime getFechaSolicitud() {
+        return fechaSolicitud;
+    }
+
+    public void setFechaSolicitud(LocalDateTime fechaSolicitud) {
+        this.fechaSolicitud = fechaSolicitud;
+    }
+
+    public String getDescripcion() {
+        return descripcion;
+    }
+
+    public void setDescripcion(String descripcion) {
+        this.descripcion = descripcion;
+    }
+
+    public String getMotivo() {
+        return motivo;
+    }
+
+    public void setMotivo(String motivo) {
+        this.motivo = motivo;
+    }
+
+    public clsEntidadUsuario getUsuario() {
+        return usuario;
+    }
+
+    public clsEntidadEspacio getEspacio() {
+        return espacio;
+    }
+
+    public clsEntidadBloqueHorario getBloque() {
+        return bloque;
+    }
+}
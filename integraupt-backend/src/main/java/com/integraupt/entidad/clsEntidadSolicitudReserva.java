@@ -0,0 +1,82 @@
+package com.integraupt.entidad;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Estado compartido de una solicitud recibida por la cola de ingreso de reservas,
+ * para que cualquier nodo pueda responder la consulta de un ticket.
+ */
+@Entity
+@Table(name = "solicitudes_reserva")
+public class clsEntidadSolicitudReserva {
+
+    @Id
+    @Column(name = "Ticket", length = 36)
+    private String ticket;
+
+    @Column(name = "Estado", nullable = false, length = 20)
+    private String estado;
+
+    @Column(name = "Mensaje", length = 255)
+    private String mensaje;
+
+    @Column(name = "Espacio")
+    private Integer espacioId;
+
+    @Column(name = "IdReserva")
+    private Integer idReserva;
+
+    @Column(name = "Actualizado", nullable = false)
+    private LocalDateTime actualizado;
+
+    // Getters y Setters
+
+    public String getTicket() {
+        return ticket;
+    }
+
+    public void setTicket(String ticket) {
+        this.ticket = ticket;
+    }
+
+    public String getEstado() {
+        return estado;
+    }
+
+    public void setEstado(String estado) {
+        this.estado = estado;
+    }
+
+    public String getMensaje() {
+        return mensaje;
+    }
+
+    public void setMensaje(String mensaje) {
+        this.mensaje = mensaje;
+    }
+
+    public Integer getEspacioId() {
+        return espacioId;
+    }
+
+    public void setEspacioId(Integer espacioId) {
+        this.espacioId = espacioId;
+    }
+
+    public Integer getIdReserva() {
+        return idReserva;
+    }
+
+    public void setIdReserva(Integer idReserva) {
+        this.idReserva = idReserva;
+    }
+
+    public LocalDateTime getActualizado() {
+        return actualizado;
+    }
+
+    public void setActualizado(LocalDateTime actualizado) {
+        this.actualizado = actualizado;
+    }
+}
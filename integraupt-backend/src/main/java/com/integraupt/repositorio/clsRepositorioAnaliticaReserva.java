@@ -0,0 +1,89 @@
+package com.integraupt.repositorio;
+
+import com.integraupt.entidad.clsEntidadAnaliticaReserva;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repositorio de los contadores acumulados de reservas y de los incrementos pendientes
+ * ({@code analitica_deltas}) que registran los disparadores de {@code reserva}.
+ */
+@Repository
+public interface clsRepositorioAnaliticaReserva
+        extends JpaRepository<clsEntidadAnaliticaReserva, clsEntidadAnaliticaReserva.Clave> {
+
+    /**
+     * Intenta obtener sin esperar un bloqueo con nombre de la base de datos.
+     *
+     * @return 1 si se obtuvo, 0 si lo tiene otra sesión
+     */
+    @Query(value = "SELECT GET_LOCK(:nombre, 0)", nativeQuery = true)
+    Integer obtenerBloqueo(@Param("nombre") String nombre);
+
+    @Query(value = "SELECT RELEASE_LOCK(:nombre)", nativeQuery = true)
+    Integer liberarBloqueo(@Param("nombre") String nombre);
+
+    @Query(value = "SELECT COALESCE(MAX(IdDelta), 0) FROM analitica_deltas", nativeQuery = true)
+    long maxDelta();
+
+    /**
+     * Bloquea los incrementos hasta el identificador indicado, esperando a los que aún no se
+     * confirmaron, para que la suma y la eliminación posteriores vean exactamente las mismas filas.
+     */
+    @Query(value = "SELECT COUNT(*) FROM analitica_deltas WHERE IdDelta <= :maximo FOR UPDATE", nativeQuery = true)
+    long bloquearDeltas(@Param("maximo") long maximo);
+
+    /**
+     * Suma a los contadores los incrementos hasta el identificador indicado, creando los que no existan.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO analitica_reservas (Dimension, Valor, Estado, Total, Actualizado) "
+            + "SELECT d.Dimension, d.Valor, d.Estado, SUM(d.Delta), NOW(6) FROM analitica_deltas d "
+            + "WHERE d.IdDelta <= :maximo GROUP BY d.Dimension, d.Valor, d.Estado "
+            + "ON DUPLICATE KEY UPDATE Total = Total + VALUES(Total), Actualizado = VALUES(Actualizado)",
+            nativeQuery = true)
+    int consolidarDeltas(@Param("maximo") long maximo);
+
+    @Modifying
+    @Query(value = "DELETE FROM analitica_deltas WHERE IdDelta <= :maximo", nativeQuery = true)
+    int eliminarDeltas(@Param("maximo") long maximo);
+
+    @Modifying
+    @Query(value = "DELETE FROM analitica_deltas", nativeQuery = true)
+    void vaciarDeltas();
+
+    @Modifying
+    @Query(value = "DELETE FROM analitica_reservas", nativeQuery = true)
+    void vaciar();
+
+    /**
+     * Bloquea en modo compartido todas las reservas hasta el fin de la transacción: espera a las
+     * escrituras en curso y detiene las nuevas mientras se reconstruyen los contadores.
+     */
+    @Query(value = "SELECT COUNT(*) FROM reserva LOCK IN SHARE MODE", nativeQuery = true)
+    long bloquearReservas();
+
+    /**
+     * Recalcula todos los contadores desde el historial completo de {@code reserva}.
+     * Solo lo usa el proceso de reparación; los tableros nunca agregan sobre {@code reserva}.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO analitica_reservas (Dimension, Valor, Estado, Total, Actualizado) "
+            + "SELECT 'global', '*', r.estado, COUNT(*), NOW(6) FROM reserva r GROUP BY r.estado "
+            + "UNION ALL "
+            + "SELECT 'espacio', CAST(r.espacio AS CHAR), r.estado, COUNT(*), NOW(6) FROM reserva r "
+            + "GROUP BY r.espacio, r.estado "
+            + "UNION ALL "
+            + "SELECT 'bloque', CAST(r.bloque AS CHAR), r.estado, COUNT(*), NOW(6) FROM reserva r "
+            + "GROUP BY r.bloque, r.estado "
+            + "UNION ALL "
+            + "SELECT 'dia', CAST(WEEKDAY(r.fechaReserva) + 1 AS CHAR), r.estado, COUNT(*), NOW(6) FROM reserva r "
+            + "GROUP BY WEEKDAY(r.fechaReserva), r.estado "
+            + "UNION ALL "
+            + "SELECT 'escuela', CAST(e.Escuela AS CHAR), r.estado, COUNT(*), NOW(6) FROM reserva r "
+            + "JOIN espacio e ON e.IdEspacio = r.espacio GROUP BY e.Escuela, r.estado", nativeQuery = true)
+    int reconstruir();
+}
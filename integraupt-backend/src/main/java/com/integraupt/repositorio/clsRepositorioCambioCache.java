@@ -0,0 +1,34 @@
+package com.integraupt.repositorio;
+
+import com.integraupt.entidad.clsEntidadCambioCache;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Repositorio del registro de cambios para invalidación de cachés.
+ */
+@Repository
+public interface clsRepositorioCambioCache extends JpaRepository<clsEntidadCambioCache, Long> {
+
+    List<clsEntidadCambioCache> findTop500ByIdGreaterThanOrderByIdAsc(Long id);
+
+    List<clsEntidadCambioCache> findByIdIn(Collection<Long> ids);
+
+    @Query("SELECT COALESCE(MAX(c.id), 0) FROM clsEntidadCambioCache c")
+    long findMaxId();
+
+    @Query("SELECT COALESCE(MIN(c.id), 0) FROM clsEntidadCambioCache c")
+    long findMinId();
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM clsEntidadCambioCache c WHERE c.fecha < :limite")
+    int deleteAnterioresA(@Param("limite") LocalDateTime limite);
+}
@@ -0,0 +1,12 @@
+package com.integraupt.repositorio;
+
+import com.integraupt.entidad.clsEntidadEscuela;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repositorio para acceder al catálogo de escuelas.
+ */
+@Repository
+public interface clsRepositorioEscuela extends JpaRepository<clsEntidadEscuela, Integer> {
+}
@@ -0,0 +1,12 @@
+package com.integraupt.repositorio;
+
+import com.integraupt.entidad.clsEntidadEspacio;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repositorio para acceder al catálogo de espacios.
+ */
+@Repository
+public interface clsRepositorioEspacio extends JpaRepository<clsEntidadEspacio, Integer> {
+}
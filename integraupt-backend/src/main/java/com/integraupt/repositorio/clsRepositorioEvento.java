@@ -0,0 +1,41 @@
+package com.integraupt.repositorio;
+
+import com.integraupt.entidad.clsEntidadEvento;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repositorio para acceder a los eventos del calendario universitario.
+ */
+@Repository
+public interface clsRepositorioEvento extends JpaRepository<clsEntidadEvento, String> {
+
+    /**
+     * Eventos que siguen vigentes a partir de la fecha indicada (los que terminan o inician después).
+     */
+    @Query("SELECT e FROM clsEntidadEvento e "
+            + "WHERE COALESCE(e.fechaFin, e.fechaInicio) >= :desde")
+    List<clsEntidadEvento> findVigentesDesde(@Param("desde") LocalDateTime desde);
+
+    /**
+     * Eventos creados o modificados después de la marca de agua indicada.
+     *
+     * <p>Se escribe sin {@code COALESCE} para que ambas ramas del filtro sean rangos sobre
+     * el índice {@code (updated_at, created_at)}.</p>
+     */
+    @Query("SELECT e FROM clsEntidadEvento e "
+            + "WHERE e.updatedAt > :marca OR (e.updatedAt IS NULL AND e.createdAt > :marca)")
+    List<clsEntidadEvento> findModificadosDespues(@Param("marca") LocalDateTime marca);
+
+    /**
+     * Eventos que se cruzan con el rango indicado; solo se usa para fechas fuera de la ventana en memoria.
+     */
+    @Query("SELECT e FROM clsEntidadEvento e "
+            + "WHERE e.fechaInicio < :hasta AND COALESCE(e.fechaFin, e.fechaInicio) >= :desde "
+            + "ORDER BY e.fechaInicio")
+    List<clsEntidadEvento> findEnRango(@Param("desde") LocalDateTime desde, @Param("hasta") LocalDateTime hasta);
+}
@@ -0,0 +1,12 @@
+package com.integraupt.repositorio;
+
+import com.integraupt.entidad.clsEntidadFacultad;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repositorio para acceder al catálogo de facultades.
+ */
+@Repository
+public interface clsRepositorioFacultad extends JpaRepository<clsEntidadFacultad, Integer> {
+}
@@ -0,0 +1,88 @@
+package com.integraupt.repositorio;
+
+import com.integraupt.dto.clsDTOReservaListado;
+import com.integraupt.entidad.clsEntidadReserva;
+import jakarta.persistence.LockModeType;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repositorio para acceder a las reservas de espacios.
+ */
+@Repository
+public interface clsRepositorioReserva extends JpaRepository<clsEntidadReserva, Integer> {
+
+    /*
+     * Listados paginados por conjunto de claves sobre (fechaReserva, IdReserva): cada página
+     * continúa después de la última fila de la anterior en lugar de usar OFFSET, y trae usuario,
+     * espacio y bloque en la misma consulta. El tamaño se limita con el Pageable (sin COUNT).
+     */
+
+    String PROYECCION_LISTADO = "SELECT new com.integraupt.dto.clsDTOReservaListado("
+            + "r.id, r.fechaReserva, r.estado, r.fechaSolicitud, r.descripcion, r.motivo, "
+            + "u.id, u.nombres, u.apellidos, u.codigo, "
+            + "e.id, e.codigo, e.nombre, "
+            + "b.id, b.nombre, b.horaInicio, b.horaFinal) "
+            + "FROM clsEntidadReserva r JOIN r.usuario u JOIN r.espacio e JOIN r.bloque b ";
+
+    /**
+     * Reservas de un usuario, de la más reciente a la más antigua.
+     * Usa el índice {@code IDX_reserva_usuario_fecha}.
+     */
+    @Query(PROYECCION_LISTADO
+            + "WHERE r.usuarioId = :usuarioId "
+            + "AND (r.fechaReserva < :fecha OR (r.fechaReserva = :fecha AND r.id < :id)) "
+            + "ORDER BY r.fechaReserva DESC, r.id DESC")
+    List<clsDTOReservaListado> listarPorUsuario(@Param("usuarioId") Integer usuarioId,
+                                                @Param("fecha") LocalDate fecha,
+                                                @Param("id") Integer id,
+                                                Pageable limite);
+
+    /**
+     * Reservas en un estado (por ejemplo, pendientes de aprobación), de la más próxima a la más lejana.
+     * Usa el índice {@code IDX_reserva_estado_fecha}.
+     */
+    @Query(PROYECCION_LISTADO
+            + "WHERE r.estado = :estado "
+            + "AND (r.fechaReserva > :fecha OR (r.fechaReserva = :fecha AND r.id > :id)) "
+            + "ORDER BY r.fechaReserva ASC, r.id ASC")
+    List<clsDTOReservaListado> listarPorEstado(@Param("estado") String estado,
+                                               @Param("fecha") LocalDate fecha,
+                                               @Param("id") Integer id,
+                                               Pageable limite);
+
+    /**
+     * Reservas de un espacio dentro de un rango de fechas, en orden cronológico.
+     * Usa el índice {@code IDX_reserva_espacio_fecha}.
+     */
+    @Query(PROYECCION_LISTADO
+            + "WHERE r.espacioId = :espacioId AND r.fechaReserva <= :hasta "
+            + "AND (r.fechaReserva > :fecha OR (r.fechaReserva = :fecha AND r.id > :id)) "
+            + "ORDER BY r.fechaReserva ASC, r.id ASC")
+    List<clsDTOReservaListado> listarPorEspacio(@Param("espacioId") Integer espacioId,
+                                                @Param("hasta") LocalDate hasta,
+                                                @Param("fecha") LocalDate fecha,
+                                                @Param("id") Integer id,
+                                                Pageable limite);
+
+    /**
+     * Reservas activas (en los estados indicados) de un conjunto de espacios y fechas,
+     * usado para evaluar los conflictos de un lote completo con una sola consulta.
+     *
+     * <p>Se lee con {@code FOR UPDATE}: el rango bloqueado del índice por espacio y fecha impide
+     * que otro nodo inserte en esas franjas hasta que el lote se confirme.</p>
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM clsEntidadReserva r "
+            + "WHERE r.espacioId IN :espacios AND r.fechaReserva IN :fechas AND r.estado IN :estados")
+    List<clsEntidadReserva> findActivas(@Param("espacios") Collection<Integer> espacios,
+                                        @Param("fechas") Collection<LocalDate> fechas,
+                                        @Param("estados") Collection<String> estados);
+}
@@ -0,0 +1,64 @@
+package com.integraupt.repositorio;
+
+import com.integraupt.entidad.clsEntidadSolicitudReserva;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Repositorio del estado compartido de las solicitudes de la cola de reservas.
+ */
+@Repository
+public interface clsRepositorioSolicitudReserva extends JpaRepository<clsEntidadSolicitudReserva, String> {
+
+    List<clsEntidadSolicitudReserva> findByTicketIn(Collection<String> tickets);
+
+    /**
+     * Registra un ticket recién encolado. Si el procesamiento ya escribió su estado final,
+     * la fila existente no se modifica.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO solicitudes_reserva (Ticket, Estado, Mensaje, Espacio, IdReserva, Actualizado) "
+            + "VALUES (:ticket, :estado, :mensaje, :espacio, :idReserva, :actualizado)", nativeQuery = true)
+    int registrar(@Param("ticket") String ticket,
+                  @Param("estado") String estado,
+                  @Param("mensaje") String mensaje,
+                  @Param("espacio") Integer espacio,
+                  @Param("idReserva") Integer idReserva,
+                  @Param("actualizado") LocalDateTime actualizado);
+
+    /**
+     * Guarda el estado de un ticket, exista o no la fila todavía.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO solicitudes_reserva (Ticket, Estado, Mensaje, Espacio, IdReserva, Actualizado) "
+            + "VALUES (:ticket, :estado, :mensaje, :espacio, :idReserva, :actualizado) "
+            + "ON DUPLICATE KEY UPDATE Estado = VALUES(Estado), Mensaje = VALUES(Mensaje), "
+            + "IdReserva = VALUES(IdReserva), Actualizado = VALUES(Actualizado)", nativeQuery = true)
+    int guardar(@Param("ticket") String ticket,
+                @Param("estado") String estado,
+                @Param("mensaje") String mensaje,
+                @Param("espacio") Integer espacio,
+                @Param("idReserva") Integer idReserva,
+                @Param("actualizado") LocalDateTime actualizado);
+
+    /**
+     * Elimina los tickets finalizados anteriores a {@code limite} y los que quedaron en cola
+     * antes de {@code limiteEnCola} (por ejemplo, porque el nodo que los recibió se detuvo).
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM clsEntidadSolicitudReserva s WHERE (s.estado <> :enCola AND s.actualizado < :limite) "
+            + "OR s.actualizado < :limiteEnCola")
+    int deleteVencidas(@Param("enCola") String enCola,
+                       @Param("limite") LocalDateTime limite,
+                       @Param("limiteEnCola") LocalDateTime limiteEnCola);
+}
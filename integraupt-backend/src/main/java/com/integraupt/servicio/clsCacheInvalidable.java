@@ -0,0 +1,35 @@
+package com.integraupt.servicio;
+
+import java.util.Collection;
+
+/**
+ * Contrato que implementan las cachés en memoria que deben mantenerse coherentes entre nodos.
+ * Los beans que lo implementan se registran automáticamente en {@link clsServicioInvalidacion}.
+ */
+public interface clsCacheInvalidable {
+
+    /**
+     * @return nombre lógico de la caché, usado en la columna {@code Cache} del registro de cambios
+     */
+    String nombreCache();
+
+    /**
+     * Descarta o recarga la entrada asociada a la clave indicada.
+     */
+    void invalidar(String clave);
+
+    /**
+     * Descarta o recarga varias entradas recibidas en el mismo sondeo. Las cachés que solo
+     * saben recargarse completas pueden sobrescribirlo para hacerlo una única vez.
+     */
+    default void invalidarVarias(Collection<String> claves) {
+        for (String clave : claves) {
+            invalidar(clave);
+        }
+    }
+
+    /**
+     * Descarta o recarga la caché completa.
+     */
+    void invalidarTodo();
+}
@@ -0,0 +1,115 @@
+package com.integraupt.servicio;
+
+import com.integraupt.dto.clsDTOEvento;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import org.springframework.stereotype.Component;
+
+/**
+ * Escribe eventos en formato iCalendar (RFC 5545) directamente sobre el flujo de salida,
+ * sin construir el documento completo en memoria.
+ */
+@Component
+public class clsExportadorICalendar {
+
+    private static final DateTimeFormatter FORMATO_LOCAL = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+    private static final DateTimeFormatter FORMATO_UTC = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'");
+    private static final String FIN_LINEA = "\r\n";
+    private static final int MAX_OCTETOS_LINEA = 75;
+
+    /**
+     * Escribe el calendario con los eventos indicados.
+     *
+     * @param eventos eventos a exportar
+     * @param salida  flujo de la respuesta HTTP; no se cierra
+     */
+    public void escribir(List<clsDTOEvento> eventos, OutputStream salida) throws IOException {
+        Writer writer = new OutputStreamWriter(salida, StandardCharsets.UTF_8);
+        String marcaTiempo = LocalDateTime.now(ZoneOffset.UTC).format(FORMATO_UTC);
+
+        escribirLinea(writer, "BEGIN:VCALENDAR");
+        escribirLinea(writer, "VERSION:2.0");
+        escribirLinea(writer, "PRODID:-//IntegraUPT//Calendario de Eventos//ES");
+        escribirLinea(writer, "CALSCALE:GREGORIAN");
+        escribirLinea(writer, "X-WR-CALNAME:Eventos UPT");
+
+        for (clsDTOEvento evento : eventos) {
+            escribirLinea(writer, "BEGIN:VEVENT");
+            escribirLinea(writer, "UID:" + escapar(evento.getId()) + "@integraupt");
+            escribirLinea(writer, "DTSTAMP:" + marcaTiempo);
+            escribirLinea(writer, "DTSTART:" + evento.getFechaInicio().format(FORMATO_LOCAL));
+            if (evento.getFechaFin() != null) {
+                escribirLinea(writer, "DTEND:" + evento.getFechaFin().format(FORMATO_LOCAL));
+            }
+            escribirLinea(writer, "SUMMARY:" + escapar(evento.getTitulo()));
+            escribirOpcional(writer, "DESCRIPTION:", evento.getDescripcion());
+            escribirOpcional(writer, "LOCATION:", evento.getUbicacion());
+            escribirOpcional(writer, "CATEGORIES:", evento.getTipo());
+            escribirLinea(writer, "END:VEVENT");
+        }
+
+        escribirLinea(writer, "END:VCALENDAR");
+        writer.flush();
+    }
+
+    private void escribirOpcional(Writer writer, String propiedad, String valor) throws IOException {
+        if (valor == null || valor.isBlank()) {
+            return;
+        }
+        escribirLinea(writer, propiedad + escapar(valor));
+    }
+
+    /**
+     * Escribe una línea de contenido plegándola cada 75 octetos como exige la RFC 5545.
+     */
+    private void escribirLinea(Writer writer, String linea) throws IOException {
+        int octetos = 0;
+        int i = 0;
+        while (i < linea.length()) {
+            int codePoint = linea.codePointAt(i);
+            int ancho = octetosUtf8(codePoint);
+            if (octetos + ancho > MAX_OCTETOS_LINEA) {
+                writer.write(FIN_LINEA);
+                writer.write(' ');
+                octetos = 1;
+            }
+            writer.write(Character.toChars(codePoint));
+            octetos += ancho;
+            i += Character.charCount(codePoint);
+        }
+        writer.write(FIN_LINEA);
+    }
+
+    private int octetosUtf8(int codePoint) {
+        if (codePoint < 0x80) {
+            return 1;
+        }
+        if (codePoint < 0x800) {
+            return 2;
+        }
+        return codePoint < 0x10000 ? 3 : 4;
+    }
+
+    private String escapar(String valor) {
+        StringBuilder sb = new StringBuilder(valor.length() + 8);
+        for (int i = 0; i < valor.length(); i++) {
+            char c = valor.charAt(i);
+            switch (c) {
+                case '\\' -> sb.append("\\\\");
+                case ';' -> sb.append("\\;");
+                case ',' -> sb.append("\\,");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> { }
+                default -> sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,238 @@
+package com.integraupt.servicio;
+
+import com.integraupt.dto.clsDTOEspacio;
+import com.integraupt.dto.clsDTOResumenOcupacion;
+import com.integraupt.entidad.clsEntidadAnaliticaReserva;
+import com.integraupt.entidad.clsEntidadEscuela;
+import com.integraupt.repositorio.clsRepositorioAnaliticaReserva;
+import com.integraupt.repositorio.clsRepositorioEscuela;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Analítica de ocupación basada en contadores acumulados que se actualizan en cada cambio de estado.
+ *
+ * <p>Los disparadores de {@code reserva} registran, en la misma transacción que la inserción,
+ * el cambio de estado o la eliminación, un incremento por dimensión (global, espacio, bloque,
+ * día de la semana y escuela del espacio) en {@code analitica_deltas}. Así se cuentan también
+ * las aprobaciones y los rechazos automáticos que hacen otros disparadores. Periódicamente un
+ * único nodo suma esos incrementos a {@code analitica_reservas} y los elimina; todos los nodos
+ * recargan después los totales, y los tableros leen solo esos totales en memoria, sin agregar
+ * nunca sobre el historial de {@code reserva}.</p>
+ *
+ * <p>La consolidación y la reconstrucción se excluyen entre nodos con el bloqueo con nombre
+ * {@value #BLOQUEO} de la base de datos.</p>
+ */
+@Service
+public class clsServicioAnaliticaReservas {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(clsServicioAnaliticaReservas.class);
+
+    public static final String DIMENSION_GLOBAL = "global";
+    public static final String DIMENSION_ESPACIO = "espacio";
+    public static final String DIMENSION_BLOQUE = "bloque";
+    public static final String DIMENSION_DIA = "dia";
+    public static final String DIMENSION_ESCUELA = "escuela";
+    public static final Set<String> DIMENSIONES =
+            Set.of(DIMENSION_GLOBAL, DIMENSION_ESPACIO, DIMENSION_BLOQUE, DIMENSION_DIA, DIMENSION_ESCUELA);
+
+    /** Bloqueo con nombre ({@code GET_LOCK}) que comparten todos los nodos. */
+    private static final String BLOQUEO = "integraupt_analitica";
+
+    private static final String VALOR_GLOBAL = "*";
+    private static final String ESTADO_APROBADA = "Aprobada";
+    private static final String ESTADO_RECHAZADA = "Rechazada";
+    private static final String[] NOMBRES_DIA = {
+            null, "Lunes", "Martes", "Miercoles", "Jueves", "Viernes", "Sabado", "Domingo"
+    };
+
+    private final clsRepositorioAnaliticaReserva repositorioAnalitica;
+    private final clsRepositorioEscuela repositorioEscuela;
+    private final clsServicioCatalogoEspacios catalogoEspacios;
+    private final TransactionTemplate transactionTemplate;
+
+    // Totales confirmados en la base de datos: dimensión -> valor -> estado -> total.
+    private volatile Map<String, Map<String, Map<String, Long>>> totales = Map.of();
+    private volatile Map<Integer, String> escuelas = Map.of();
+
+    private boolean inicializado;
+
+    public clsServicioAnaliticaReservas(clsRepositorioAnaliticaReserva repositorioAnalitica,
+                                        clsRepositorioEscuela repositorioEscuela,
+                                        clsServicioCatalogoEspacios catalogoEspacios,
+                                        TransactionTemplate transactionTemplate) {
+        this.repositorioAnalitica = repositorioAnalitica;
+        this.repositorioEscuela = repositorioEscuela;
+        this.catalogoEspacios = catalogoEspacios;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    /**
+     * @return resumen de todas las reservas
+     */
+    public clsDTOResumenOcupacion resumenGlobal() {
+        List<clsDTOResumenOcupacion> filas = resumen(DIMENSION_GLOBAL);
+        return filas.isEmpty()
+                ? new clsDTOResumenOcupacion(DIMENSION_GLOBAL, VALOR_GLOBAL, "Total", Map.of(), 0, 0)
+                : filas.get(0);
+    }
+
+    /**
+     * @param dimension una de {@link #DIMENSIONES}
+     * @return un resumen por cada valor de la dimensión, ordenados por valor
+     */
+    public List<clsDTOResumenOcupacion> resumen(String dimension) {
+        Map<String, Map<String, Long>> porValor = totales.getOrDefault(dimension, Map.of());
+
+        List<clsDTOResumenOcupacion> resultado = new ArrayList<>(porValor.size());
+        porValor.forEach((valor, estados) -> resultado.add(new clsDTOResumenOcupacion(
+                dimension,
+                valor,
+                etiqueta(dimension, valor),
+                estados,
+                estados.getOrDefault(ESTADO_APROBADA, 0L),
+                estados.getOrDefault(ESTADO_RECHAZADA, 0L)
+        )));
+        resultado.sort(Comparator.comparing(clsDTOResumenOcupacion::getValor, this::compararValores));
+        return resultado;
+    }
+
+    /**
+     * Suma a los contadores los incrementos registrados por los disparadores y recarga los totales.
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${integraupt.analitica.consolidacion-ms:30000}")
+    public synchronized void consolidar() {
+        try {
+            Long consolidados = transactionTemplate.execute(status -> conBloqueo(() -> {
+                long maximo = repositorioAnalitica.maxDelta();
+                if (maximo == 0) {
+                    return 0L;
+                }
+                // Se bloquean primero las filas para esperar a las transacciones que aún las escriben.
+                long filas = repositorioAnalitica.bloquearDeltas(maximo);
+                repositorioAnalitica.consolidarDeltas(maximo);
+                repositorioAnalitica.eliminarDeltas(maximo);
+                return filas;
+            }));
+            if (consolidados != null && consolidados > 0) {
+                LOGGER.debug("Incrementos de analítica consolidados: {}", consolidados);
+            }
+        } catch (RuntimeException ex) {
+            // La transacción se deshizo: los incrementos siguen en analitica_deltas para el siguiente ciclo.
+            LOGGER.error("No se pudieron consolidar los incrementos de analítica; se reintentará", ex);
+        }
+
+        try {
+            recargarTotales();
+        } catch (RuntimeException ex) {
+            LOGGER.error("No se pudieron recargar los totales de analítica", ex);
+            return;
+        }
+
+        if (!inicializado) {
+            inicializado = true;
+            if (totales.isEmpty()) {
+                // Primera ejecución sobre una base sin contadores: se calculan desde el historial.
+                reconstruir();
+            }
+        }
+    }
+
+    /**
+     * Recalcula todos los contadores desde el historial de reservas. Es la tarea de reparación
+     * nocturna; solo la ejecuta el nodo que obtiene el bloqueo.
+     *
+     * <p>Primero se bloquean en modo compartido las filas de {@code reserva}, lo que espera a las
+     * transacciones en curso e impide nuevas hasta confirmar. Por eso los incrementos pendientes
+     * corresponden exactamente a reservas ya incluidas en el recálculo y pueden descartarse.</p>
+     */
+    @Scheduled(cron = "${integraupt.analitica.reconstruccion-cron:0 30 3 * * *}")
+    public synchronized void reconstruir() {
+        try {
+            Integer filas = transactionTemplate.execute(status -> conBloqueo(() -> {
+                repositorioAnalitica.bloquearReservas();
+                repositorioAnalitica.vaciarDeltas();
+                repositorioAnalitica.vaciar();
+                return repositorioAnalitica.reconstruir();
+            }));
+            if (filas == null) {
+                LOGGER.info("Otro nodo está actualizando los contadores de analítica; se omite la reconstrucción");
+                return;
+            }
+            recargarTotales();
+            LOGGER.info("Contadores de analítica reconstruidos: {} filas", filas);
+        } catch (RuntimeException ex) {
+            LOGGER.error("No se pudieron reconstruir los contadores de analítica", ex);
+        }
+    }
+
+    /**
+     * Ejecuta la tarea con el bloqueo {@value #BLOQUEO}. Debe llamarse dentro de una transacción
+     * para que la obtención y la liberación usen la misma conexión.
+     *
+     * @return resultado de la tarea, o {@code null} si otro nodo tiene el bloqueo
+     */
+    private <T> T conBloqueo(Supplier<T> tarea) {
+        Integer obtenido = repositorioAnalitica.obtenerBloqueo(BLOQUEO);
+        if (obtenido == null || obtenido != 1) {
+            return null;
+        }
+        try {
+            return tarea.get();
+        } finally {
+            repositorioAnalitica.liberarBloqueo(BLOQUEO);
+        }
+    }
+
+    private void recargarTotales() {
+        Map<Integer, String> nombresEscuela = new HashMap<>();
+        for (clsEntidadEscuela escuela : repositorioEscuela.findAll()) {
+            nombresEscuela.put(escuela.getId(), escuela.getNombre());
+        }
+
+        Map<String, Map<String, Map<String, Long>>> nuevos = new HashMap<>();
+        for (clsEntidadAnaliticaReserva fila : repositorioAnalitica.findAll()) {
+            clsEntidadAnaliticaReserva.Clave clave = fila.getClave();
+            nuevos.computeIfAbsent(clave.getDimension(), d -> new HashMap<>())
+                    .computeIfAbsent(clave.getValor(), v -> new HashMap<>())
+                    .put(clave.getEstado(), fila.getTotal());
+        }
+        escuelas = nombresEscuela;
+        totales = nuevos;
+    }
+
+    private String etiqueta(String dimension, String valor) {
+        try {
+            return switch (dimension) {
+                case DIMENSION_GLOBAL -> "Total";
+                case DIMENSION_ESPACIO -> {
+                    clsDTOEspacio espacio = catalogoEspacios.obtener(Integer.valueOf(valor));
+                    yield espacio != null ? espacio.getNombre() : null;
+                }
+                case DIMENSION_ESCUELA -> escuelas.get(Integer.valueOf(valor));
+                case DIMENSION_DIA -> NOMBRES_DIA[Integer.parseInt(valor)];
+                default -> null;
+            };
+        } catch (RuntimeException ex) {
+            return null;
+        }
+    }
+
+    private int compararValores(String a, String b) {
+        try {
+            return Integer.compare(Integer.parseInt(a), Integer.parseInt(b));
+        } catch (NumberFormatException ex) {
+            return a.compareTo(b);
+        }
+    }
+}
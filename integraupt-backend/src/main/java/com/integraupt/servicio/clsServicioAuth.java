@@ -1,5 +1,6 @@
 package com.integraupt.servicio;
 
+import com.integraupt.dto.clsCatalogoPerfil;
 import com.integraupt.dto.clsDTOLoginRequest;
 import com.integraupt.dto.clsDTOLoginResponse;
 import com.integraupt.dto.clsDTOLoginResponse.PerfilDTO;
@@ -11,11 +12,11 @@ import java.util.Base64;
 import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 import java.util.Locale;
-import java.util.Map;
 
 /**
  * Servicio encargado de manejar la lógica de autenticación de usuarios.
@@ -25,43 +26,8 @@ public class clsServicioAuth {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(clsServicioAuth.class);
 
-    private static final Map<Integer, String> ROL_NOMBRES = Map.of(
-            1, "Profesor",
-            2, "Estudiante",
-            3, "Administrador"
-    );
-
-    private static final Map<Integer, String> FACULTAD_NOMBRES = Map.of(
-            1, "FAING",
-            2, "FADE",
-            3, "FACEM",
-            4, "FAEDCOH",
-            5, "FACSA",
-            6, "FAU"
-    );
-
-    private static final Map<Integer, String> ESCUELA_NOMBRES = Map.ofEntries(
-            Map.entry(1, "Ing. Civil"),
-            Map.entry(2, "Ing. de Sistemas"),
-            Map.entry(3, "Ing. Electronica"),
-            Map.entry(4, "Ing. Agroindustrial"),
-            Map.entry(5, "Ing. Ambiental"),
-            Map.entry(6, "Ing. Industrial"),
-            Map.entry(7, "Derecho"),
-            Map.entry(8, "Ciencias Contables y Financieras"),
-            Map.entry(9, "Economia y Microfinanzas"),
-            Map.entry(10, "Administracion"),
-            Map.entry(11, "Administracion Turistico-Hotel"),
-            Map.entry(12, "Administracion de Negocios Internacionales"),
-            Map.entry(13, "Educacion"),
-            Map.entry(14, "Ciencias de la Comunicacion"),
-            Map.entry(15, "Humanidades - Psicologia"),
-            Map.entry(16, "Medicina Humana"),
-            Map.entry(17, "Odontologia"),
-            Map.entry(18, "Tecnologia Medica"),
-            Map.entry(19, "Arquitectura")
-    );
-
+    // BCryptPasswordEncoder es inmutable y seguro entre hilos: se reutiliza en todos los inicios de sesión.
+    private static final BCryptPasswordEncoder BCRYPT = new BCryptPasswordEncoder();
 
     private final clsRepositorioAuth repositorioAuth;
 
@@ -136,9 +102,7 @@ public class clsServicioAuth {
         if (passwordAlmacenada.startsWith("$2a$") || passwordAlmacenada.startsWith("$2b$")
                 || passwordAlmacenada.startsWith("$2y$")) {
             try {
-                org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder encoder =
-                        new org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder();
-                return encoder.matches(passwordIngresada, passwordAlmacenada);
+                return BCRYPT.matches(passwordIngresada, passwordAlmacenada);
             } catch (Exception ex) {
                 LOGGER.error("Error validando contraseña encriptada", ex);
                 return false;
@@ -189,7 +153,15 @@ public class clsServicioAuth {
 
     private String determinarTipoLogin(clsEntidadUsuario usuario, String tipoLoginSolicitado) {
         if (StringUtils.hasText(tipoLoginSolicitado)) {
-            return tipoLoginSolicitado.trim().toLowerCase(Locale.ROOT);
+            String solicitado = tipoLoginSolicitado.trim();
+            // Los valores que envía el frontend se resuelven a las constantes del catálogo sin copiar el texto.
+            if (clsCatalogoPerfil.LOGIN_ACADEMICO.equalsIgnoreCase(solicitado)) {
+                return clsCatalogoPerfil.LOGIN_ACADEMICO;
+            }
+            if (clsCatalogoPerfil.LOGIN_ADMINISTRATIVO.equalsIgnoreCase(solicitado)) {
+                return clsCatalogoPerfil.LOGIN_ADMINISTRATIVO;
+            }
+            return solicitado.toLowerCase(Locale.ROOT);
         }
 
         Integer rolId = usuario.getRolId();
@@ -197,41 +169,32 @@ public class clsServicioAuth {
             return null;
         }
 
-        return (rolId == 3) ? "administrative" : "academic";
+        return (rolId == 3) ? clsCatalogoPerfil.LOGIN_ADMINISTRATIVO : clsCatalogoPerfil.LOGIN_ACADEMICO;
     }
 
     private String mapRol(Integer rolId) {
-        if (rolId == null) {
-            return null;
-        }
-        return ROL_NOMBRES.getOrDefault(rolId, rolId.toString());
+        return clsCatalogoPerfil.rol(rolId);
     }
 
     private String mapEstado(Integer estado) {
         if (estado == null) {
             return null;
         }
-        return estado == 1 ? "Activo" : "Inactivo";
+        return estado == 1 ? clsCatalogoPerfil.ESTADO_ACTIVO : clsCatalogoPerfil.ESTADO_INACTIVO;
     }
 
     private String mapGenero(Boolean genero) {
         if (genero == null) {
             return null;
         }
-        return genero ? "Masculino" : "Femenino";
+        return genero ? clsCatalogoPerfil.GENERO_MASCULINO : clsCatalogoPerfil.GENERO_FEMENINO;
     }
 
     private String mapFacultad(Integer facultadId) {
-        if (facultadId == null) {
-            return null;
-        }
-        return FACULTAD_NOMBRES.getOrDefault(facultadId, facultadId.toString());
+        return clsCatalogoPerfil.facultad(facultadId);
     }
 
     private String mapEscuela(Integer escuelaId) {
-        if (escuelaId == null) {
-            return null;
-        }
-        return ESCUELA_NOMBRES.getOrDefault(escuelaId, escuelaId.toString());
+        return clsCatalogoPerfil.escuela(escuelaId);
     }
 }
\ No newline at end of file
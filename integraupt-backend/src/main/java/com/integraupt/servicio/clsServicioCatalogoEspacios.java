@@ -0,0 +1,294 @@
+package com.integraupt.servicio;
+
+import com.integraupt.dto.clsDTOEspacio;
+import com.integraupt.dto.clsDTOFiltroEspacios;
+import com.integraupt.entidad.clsEntidadEscuela;
+import com.integraupt.entidad.clsEntidadEspacio;
+import com.integraupt.entidad.clsEntidadFacultad;
+import com.integraupt.repositorio.clsRepositorioEscuela;
+import com.integraupt.repositorio.clsRepositorioEspacio;
+import com.integraupt.repositorio.clsRepositorioFacultad;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+/**
+ * Catálogo de espacios con un índice columnar en memoria.
+ *
+ * <p>Cada espacio ocupa una posición fija en arreglos primitivos (capacidad, estado). Los
+ * atributos categóricos (tipo, facultad, escuela) se indexan con un {@link BitSet} por valor y
+ * el equipamiento con un índice invertido de palabras. Una búsqueda compuesta se resuelve
+ * intersectando bitsets y recorriendo solo las posiciones que sobreviven.</p>
+ *
+ * <p>El índice es inmutable: cada recarga construye uno nuevo y lo publica de forma atómica.
+ * Los nombres de facultad y escuela se leen de sus tablas en cada recarga. Se recarga al
+ * recibir una invalidación de la caché {@value #CACHE}, que registran los disparadores de
+ * {@code espacio}, {@code facultad} y {@code escuela}; la recarga periódica solo es un respaldo
+ * por si se pierde alguna invalidación.</p>
+ */
+@Service
+public class clsServicioCatalogoEspacios implements clsCacheInvalidable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(clsServicioCatalogoEspacios.class);
+
+    /** Nombre de esta caché en el registro de cambios. */
+    public static final String CACHE = "espacios";
+
+    private static final Pattern SEPARADORES = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Pattern DIACRITICOS = Pattern.compile("\\p{M}+");
+
+    private final clsRepositorioEspacio repositorioEspacio;
+    private final clsRepositorioFacultad repositorioFacultad;
+    private final clsRepositorioEscuela repositorioEscuela;
+
+    private volatile Indice indice = Indice.vacio();
+
+    public clsServicioCatalogoEspacios(clsRepositorioEspacio repositorioEspacio,
+                                       clsRepositorioFacultad repositorioFacultad,
+                                       clsRepositorioEscuela repositorioEscuela) {
+        this.repositorioEspacio = repositorioEspacio;
+        this.repositorioFacultad = repositorioFacultad;
+        this.repositorioEscuela = repositorioEscuela;
+    }
+
+    /**
+     * Busca espacios que cumplan todos los criterios indicados, en el orden del catálogo.
+     */
+    public List<clsDTOEspacio> buscar(clsDTOFiltroEspacios filtro) {
+        Indice actual = indice;
+        BitSet candidatos = new BitSet(actual.filas.length);
+        candidatos.set(0, actual.filas.length);
+
+        if (StringUtils.hasText(filtro.getTipo())) {
+            intersectar(candidatos, actual.porTipo.get(normalizar(filtro.getTipo())));
+        }
+        if (filtro.getFacultadId() != null) {
+            intersectar(candidatos, actual.porFacultad.get(filtro.getFacultadId()));
+        }
+        if (filtro.getEscuelaId() != null) {
+            intersectar(candidatos, actual.porEscuela.get(filtro.getEscuelaId()));
+        }
+        if (StringUtils.hasText(filtro.getEquipamiento())) {
+            for (String palabra : palabras(filtro.getEquipamiento())) {
+                if (candidatos.isEmpty()) {
+                    break;
+                }
+                intersectar(candidatos, actual.conPrefijo(palabra));
+            }
+        }
+
+        int capacidadMin = filtro.getCapacidadMin() != null ? filtro.getCapacidadMin() : Integer.MIN_VALUE;
+        int capacidadMax = filtro.getCapacidadMax() != null ? filtro.getCapacidadMax() : Integer.MAX_VALUE;
+        List<clsDTOEspacio> resultado = new ArrayList<>();
+        for (int i = candidatos.nextSetBit(0); i >= 0; i = candidatos.nextSetBit(i + 1)) {
+            int capacidad = actual.capacidades[i];
+            if (capacidad < capacidadMin || capacidad > capacidadMax) {
+                continue;
+            }
+            if (filtro.getEstado() != null && actual.estados[i] != filtro.getEstado()) {
+                continue;
+            }
+            resultado.add(actual.filas[i]);
+        }
+        return resultado;
+    }
+
+    /**
+     * @return el espacio con el identificador indicado, o {@code null} si no existe
+     */
+    public clsDTOEspacio obtener(Integer id) {
+        Indice actual = indice;
+        Integer posicion = actual.posicionPorId.get(id);
+        return posicion != null ? actual.filas[posicion] : null;
+    }
+
+    /**
+     * Reconstruye el índice completo desde la base de datos.
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${integraupt.espacios.recarga-ms:600000}")
+    public synchronized void recargar() {
+        try {
+            Map<Integer, String> facultades = new HashMap<>();
+            for (clsEntidadFacultad facultad : repositorioFacultad.findAll()) {
+                facultades.put(facultad.getId(), facultad.getNombre());
+            }
+            Map<Integer, String> escuelas = new HashMap<>();
+            for (clsEntidadEscuela escuela : repositorioEscuela.findAll()) {
+                escuelas.put(escuela.getId(), escuela.getNombre());
+            }
+
+            List<clsEntidadEspacio> espacios = repositorioEspacio.findAll();
+            indice = construir(espacios, facultades, escuelas);
+            LOGGER.info("Índice de espacios cargado: {} espacios, {} palabras de equipamiento",
+                    espacios.size(), indice.porPalabra.size());
+        } catch (RuntimeException ex) {
+            LOGGER.error("No se pudo cargar el índice de espacios", ex);
+        }
+    }
+
+    @Override
+    public String nombreCache() {
+        return CACHE;
+    }
+
+    /**
+     * El índice columnar no admite cambios puntuales; cualquier cambio lo reconstruye.
+     */
+    @Override
+    public void invalidar(String clave) {
+        recargar();
+    }
+
+    /**
+     * Una ráfaga de cambios recibida en el mismo sondeo se resuelve con una sola recarga.
+     */
+    @Override
+    public void invalidarVarias(Collection<String> claves) {
+        recargar();
+    }
+
+    @Override
+    public void invalidarTodo() {
+        recargar();
+    }
+
+    private Indice construir(List<clsEntidadEspacio> espacios, Map<Integer, String> facultades,
+                             Map<Integer, String> escuelas) {
+        int n = espacios.size();
+        clsDTOEspacio[] filas = new clsDTOEspacio[n];
+        int[] capacidades = new int[n];
+        int[] estados = new int[n];
+        Map<Integer, Integer> posicionPorId = new HashMap<>(n * 2);
+        Map<String, BitSet> porTipo = new HashMap<>();
+        Map<Integer, BitSet> porFacultad = new HashMap<>();
+        Map<Integer, BitSet> porEscuela = new HashMap<>();
+        NavigableMap<String, BitSet> porPalabra = new TreeMap<>();
+
+        for (int i = 0; i < n; i++) {
+            clsEntidadEspacio espacio = espacios.get(i);
+            int capacidad = espacio.getCapacidad() != null ? espacio.getCapacidad() : 0;
+            int estado = espacio.getEstado() != null ? espacio.getEstado() : 0;
+
+            filas[i] = new clsDTOEspacio(
+                    espacio.getId(),
+                    espacio.getCodigo(),
+                    espacio.getNombre(),
+                    espacio.getTipo(),
+                    capacidad,
+                    espacio.getEquipamiento(),
+                    espacio.getFacultadId(),
+                    facultades.get(espacio.getFacultadId()),
+                    espacio.getEscuelaId(),
+                    escuelas.get(espacio.getEscuelaId()),
+                    estado
+            );
+            capacidades[i] = capacidad;
+            estados[i] = estado;
+            posicionPorId.put(espacio.getId(), i);
+
+            if (espacio.getTipo() != null) {
+                porTipo.computeIfAbsent(normalizar(espacio.getTipo()), clave -> new BitSet(n)).set(i);
+            }
+            if (espacio.getFacultadId() != null) {
+                porFacultad.computeIfAbsent(espacio.getFacultadId(), clave -> new BitSet(n)).set(i);
+            }
+            if (espacio.getEscuelaId() != null) {
+                porEscuela.computeIfAbsent(espacio.getEscuelaId(), clave -> new BitSet(n)).set(i);
+            }
+            if (espacio.getEquipamiento() != null) {
+                for (String palabra : palabras(espacio.getEquipamiento())) {
+                    porPalabra.computeIfAbsent(palabra, clave -> new BitSet(n)).set(i);
+                }
+            }
+        }
+
+        return new Indice(filas, capacidades, estados, posicionPorId, porTipo, porFacultad, porEscuela, porPalabra);
+    }
+
+    private static void intersectar(BitSet candidatos, BitSet filtro) {
+        if (filtro == null) {
+            candidatos.clear();
+        } else {
+            candidatos.and(filtro);
+        }
+    }
+
+    private static List<String> palabras(String texto) {
+        List<String> palabras = new ArrayList<>();
+        for (String palabra : SEPARADORES.split(normalizar(texto))) {
+            if (!palabra.isEmpty()) {
+                palabras.add(palabra);
+            }
+        }
+        return palabras;
+    }
+
+    /**
+     * Minúsculas y sin tildes, para que "acrílica" coincida con "acrilica".
+     */
+    private static String normalizar(String texto) {
+        String sinTildes = DIACRITICOS.matcher(Normalizer.normalize(texto.trim(), Normalizer.Form.NFD)).replaceAll("");
+        return sinTildes.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Instantánea inmutable del catálogo en formato columnar.
+     */
+    private static final class Indice {
+
+        private final clsDTOEspacio[] filas;
+        private final int[] capacidades;
+        private final int[] estados;
+        private final Map<Integer, Integer> posicionPorId;
+        private final Map<String, BitSet> porTipo;
+        private final Map<Integer, BitSet> porFacultad;
+        private final Map<Integer, BitSet> porEscuela;
+        private final NavigableMap<String, BitSet> porPalabra;
+
+        private Indice(clsDTOEspacio[] filas, int[] capacidades, int[] estados, Map<Integer, Integer> posicionPorId,
+                       Map<String, BitSet> porTipo, Map<Integer, BitSet> porFacultad, Map<Integer, BitSet> porEscuela,
+                       NavigableMap<String, BitSet> porPalabra) {
+            this.filas = filas;
+            this.capacidades = capacidades;
+            this.estados = estados;
+            this.posicionPorId = posicionPorId;
+            this.porTipo = porTipo;
+            this.porFacultad = porFacultad;
+            this.porEscuela = porEscuela;
+            this.porPalabra = porPalabra;
+        }
+
+        private static Indice vacio() {
+            return new Indice(new clsDTOEspacio[0], new int[0], new int[0], Map.of(), Map.of(), Map.of(), Map.of(),
+                    new TreeMap<>());
+        }
+
+        /**
+         * Unión de los espacios cuyo equipamiento contiene alguna palabra que empieza por el prefijo.
+         */
+        private BitSet conPrefijo(String prefijo) {
+            NavigableMap<String, BitSet> coincidencias = porPalabra.subMap(prefijo, true, prefijo + Character.MAX_VALUE, false);
+            if (coincidencias.isEmpty()) {
+                return null;
+            }
+            BitSet union = new BitSet(filas.length);
+            for (BitSet bits : coincidencias.values()) {
+                union.or(bits);
+            }
+            return union;
+        }
+    }
+}
@@ -0,0 +1,458 @@
+package com.integraupt.servicio;
+
+import com.integraupt.dto.clsDTOReservaRequest;
+import com.integraupt.dto.clsDTOSolicitudReserva;
+import com.integraupt.entidad.clsEntidadReserva;
+import com.integraupt.entidad.clsEntidadSolicitudReserva;
+import com.integraupt.repositorio.clsRepositorioReserva;
+import com.integraupt.repositorio.clsRepositorioSolicitudReserva;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Cola de ingreso de solicitudes de reserva con contrapresión.
+ *
+ * <p>Las solicitudes se reparten en colas acotadas según el espacio, de modo que todas las de un
+ * mismo laboratorio las procesa un único hilo. Cada hilo vacía su cola en lotes, evalúa los
+ * conflictos del lote con una sola consulta y confirma todas las inserciones en una única
+ * transacción. Si la cola de un espacio está llena, la solicitud se rechaza de inmediato en lugar
+ * de acumular esperas sobre la base de datos.</p>
+ *
+ * <p>Con varios nodos, cada uno tiene sus propias colas. La consulta de conflictos bloquea
+ * ({@code FOR UPDATE}) las reservas de los espacios y fechas del lote, de modo que dos nodos
+ * no pueden aceptar a la vez solicitudes para la misma franja, y el índice único
+ * {@code UQ_reserva_slot_activo} impide dos solicitudes activas del mismo usuario. El estado de
+ * cada ticket se guarda en {@code solicitudes_reserva} para que cualquier nodo pueda consultarlo.</p>
+ */
+@Service
+public class clsServicioColaReservas {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(clsServicioColaReservas.class);
+
+    public static final String ESTADO_PENDIENTE = "Pendiente";
+    public static final String ESTADO_APROBADA = "Aprobada";
+    private static final List<String> ESTADOS_ACTIVOS = List.of(ESTADO_PENDIENTE, ESTADO_APROBADA);
+
+    private static final long ESPERA_SONDEO_MS = 500;
+    private static final long ESPERA_DETENCION_MS = 10_000;
+    private static final long TIEMPO_SUSCRIPCION_MS = 60_000;
+    private static final long HORAS_RETENCION_EN_COLA = 24;
+
+    /** Código de MySQL para una clave única duplicada y el índice que protege la franja activa. */
+    private static final int ERROR_CLAVE_DUPLICADA = 1062;
+    private static final String INDICE_SLOT_ACTIVO = "UQ_reserva_slot_activo";
+
+    private final clsRepositorioReserva repositorioReserva;
+    private final clsRepositorioSolicitudReserva repositorioSolicitud;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxLote;
+    private final int retencionMinutos;
+    // Los envíos SSE escriben en el socket del cliente y pueden bloquearse: nunca en un hilo de partición.
+    private final ExecutorService envios;
+    private final List<BlockingQueue<Solicitud>> colas;
+    private final List<Thread> trabajadores = new ArrayList<>();
+
+    private final Map<String, clsDTOSolicitudReserva> solicitudes = new ConcurrentHashMap<>();
+    private final Map<String, List<SseEmitter>> suscriptores = new ConcurrentHashMap<>();
+    // Tickets recibidos por otro nodo con suscriptores en este: se sondean en la base de datos.
+    private final Set<String> remotos = ConcurrentHashMap.newKeySet();
+
+    private volatile boolean activo;
+
+    private record Solicitud(String ticket, clsDTOReservaRequest datos, LocalDateTime recibida) {}
+
+    private record Franja(Integer espacioId, LocalDate fecha, Integer bloqueId) {}
+
+    private record FranjaUsuario(Integer usuarioId, Franja franja) {}
+
+    public clsServicioColaReservas(clsRepositorioReserva repositorioReserva,
+                                   clsRepositorioSolicitudReserva repositorioSolicitud,
+                                   TransactionTemplate transactionTemplate,
+                                   @Value("${integraupt.reservas.cola.particiones:4}") int particiones,
+                                   @Value("${integraupt.reservas.cola.capacidad:500}") int capacidad,
+                                   @Value("${integraupt.reservas.cola.lote:50}") int maxLote,
+                                   @Value("${integraupt.reservas.cola.retencion-minutos:15}") int retencionMinutos,
+                                   @Value("${integraupt.reservas.cola.hilos-sse:2}") int hilosSse) {
+        this.repositorioReserva = repositorioReserva;
+        this.repositorioSolicitud = repositorioSolicitud;
+        this.transactionTemplate = transactionTemplate;
+        this.maxLote = Math.max(1, maxLote);
+        this.retencionMinutos = retencionMinutos;
+
+        AtomicInteger contador = new AtomicInteger();
+        int hilos = Math.max(1, hilosSse);
+        this.envios = new ThreadPoolExecutor(hilos, hilos, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, capacidad)), tarea -> {
+                    Thread hilo = new Thread(tarea, "reservas-sse-" + contador.incrementAndGet());
+                    hilo.setDaemon(true);
+                    return hilo;
+                });
+
+        List<BlockingQueue<Solicitud>> lista = new ArrayList<>();
+        for (int i = 0; i < Math.max(1, particiones); i++) {
+            lista.add(new ArrayBlockingQueue<>(Math.max(1, capacidad)));
+        }
+        this.colas = List.copyOf(lista);
+    }
+
+    @PostConstruct
+    void iniciar() {
+        activo = true;
+        for (int i = 0; i < colas.size(); i++) {
+            BlockingQueue<Solicitud> cola = colas.get(i);
+            Thread hilo = new Thread(() -> procesarParticion(cola), "reservas-particion-" + i);
+            hilo.setDaemon(true);
+            hilo.start();
+            trabajadores.add(hilo);
+        }
+    }
+
+    @PreDestroy
+    void detener() {
+        activo = false;
+        for (Thread hilo : trabajadores) {
+            try {
+                hilo.join(ESPERA_DETENCION_MS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        envios.shutdown();
+    }
+
+    /**
+     * Recibe una solicitud de reserva y la deja en la cola de su espacio.
+     *
+     * @param request datos de la reserva
+     * @return estado inicial: {@code EN_COLA}, {@code RECHAZADA} si no pasa la validación
+     *         o {@code COLA_LLENA} si la partición del espacio no admite más solicitudes
+     */
+    public clsDTOSolicitudReserva encolar(clsDTOReservaRequest request) {
+        if (request.getFechaReserva().isBefore(LocalDate.now())) {
+            return clsDTOSolicitudReserva.rechazada(null, request.getEspacioId(),
+                    "No se puede reservar en una fecha pasada");
+        }
+
+        String ticket = UUID.randomUUID().toString();
+        clsDTOSolicitudReserva estado = clsDTOSolicitudReserva.enCola(ticket, request.getEspacioId());
+        solicitudes.put(ticket, estado);
+
+        if (!activo || !colaDe(request.getEspacioId()).offer(new Solicitud(ticket, request, LocalDateTime.now()))) {
+            solicitudes.remove(ticket);
+            return clsDTOSolicitudReserva.colaLlena(request.getEspacioId());
+        }
+
+        try {
+            // Se registra después de encolar; si el lote ya terminó, su estado final no se pisa.
+            guardar(estado, true);
+        } catch (RuntimeException ex) {
+            LOGGER.warn("No se pudo registrar el ticket {}; solo este nodo lo verá en cola: {}", ticket, ex.getMessage());
+        }
+        return estado;
+    }
+
+    /**
+     * @return último estado conocido de la solicitud en cualquier nodo, o {@code null} si no
+     *         existe o ya expiró
+     */
+    public clsDTOSolicitudReserva consultar(String ticket) {
+        clsDTOSolicitudReserva local = solicitudes.get(ticket);
+        if (local != null) {
+            return local;
+        }
+        return repositorioSolicitud.findById(ticket).map(this::convertir).orElse(null);
+    }
+
+    /**
+     * Crea una suscripción SSE que recibe el estado de la solicitud cuando cambia.
+     *
+     * @return emisor de eventos, o {@code null} si la solicitud no existe
+     */
+    public SseEmitter suscribir(String ticket) {
+        if (consultar(ticket) == null) {
+            return null;
+        }
+
+        SseEmitter emisor = new SseEmitter(TIEMPO_SUSCRIPCION_MS);
+        List<SseEmitter> lista = suscriptores.computeIfAbsent(ticket, clave -> new CopyOnWriteArrayList<>());
+        lista.add(emisor);
+        emisor.onCompletion(() -> lista.remove(emisor));
+        emisor.onTimeout(() -> lista.remove(emisor));
+        if (!solicitudes.containsKey(ticket)) {
+            remotos.add(ticket);
+        }
+
+        // Se vuelve a leer después de registrarse para no perder un cambio ocurrido entretanto.
+        clsDTOSolicitudReserva actual = consultar(ticket);
+        if (actual != null) {
+            enviar(emisor, actual);
+        }
+        return emisor;
+    }
+
+    /**
+     * Notifica a los suscriptores de tickets que procesa otro nodo cuando su estado cambia.
+     */
+    @Scheduled(fixedDelayString = "${integraupt.reservas.cola.sondeo-remoto-ms:1000}")
+    public void sondearRemotos() {
+        remotos.removeIf(ticket -> {
+            List<SseEmitter> lista = suscriptores.get(ticket);
+            return lista == null || lista.isEmpty();
+        });
+        if (remotos.isEmpty()) {
+            return;
+        }
+
+        try {
+            for (clsEntidadSolicitudReserva entidad : repositorioSolicitud.findByTicketIn(List.copyOf(remotos))) {
+                clsDTOSolicitudReserva estado = convertir(entidad);
+                if (estado.isFinalizada()) {
+                    remotos.remove(estado.getTicket());
+                    publicar(estado);
+                }
+            }
+        } catch (RuntimeException ex) {
+            LOGGER.error("No se pudo consultar el estado de las solicitudes de otros nodos", ex);
+        }
+    }
+
+    /**
+     * Descarta los estados finalizados más antiguos que el periodo de retención.
+     */
+    @Scheduled(fixedDelayString = "${integraupt.reservas.cola.limpieza-ms:60000}")
+    public void limpiarSolicitudes() {
+        LocalDateTime limite = LocalDateTime.now().minusMinutes(retencionMinutos);
+        solicitudes.values().removeIf(estado -> estado.isFinalizada() && estado.getActualizado().isBefore(limite));
+        suscriptores.keySet().removeIf(ticket -> !solicitudes.containsKey(ticket) && !remotos.contains(ticket));
+
+        try {
+            repositorioSolicitud.deleteVencidas(clsDTOSolicitudReserva.EN_COLA, limite,
+                    LocalDateTime.now().minusHours(HORAS_RETENCION_EN_COLA));
+        } catch (RuntimeException ex) {
+            LOGGER.error("No se pudieron purgar las solicitudes de reserva vencidas", ex);
+        }
+    }
+
+    private BlockingQueue<Solicitud> colaDe(Integer espacioId) {
+        return colas.get(Math.floorMod(espacioId.hashCode(), colas.size()));
+    }
+
+    private void procesarParticion(BlockingQueue<Solicitud> cola) {
+        List<Solicitud> lote = new ArrayList<>(maxLote);
+        while (activo || !cola.isEmpty()) {
+            try {
+                Solicitud primera = cola.poll(ESPERA_SONDEO_MS, TimeUnit.MILLISECONDS);
+                if (primera == null) {
+                    continue;
+                }
+                lote.add(primera);
+                cola.drainTo(lote, maxLote - 1);
+                procesarLote(lote);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException ex) {
+                LOGGER.error("Error inesperado procesando un lote de reservas", ex);
+                for (Solicitud solicitud : lote) {
+                    publicarError(clsDTOSolicitudReserva.error(solicitud.ticket(), solicitud.datos().getEspacioId(),
+                            "No se pudo procesar la solicitud"));
+                }
+            } finally {
+                lote.clear();
+            }
+        }
+    }
+
+    private void procesarLote(List<Solicitud> lote) {
+        List<clsDTOSolicitudReserva> resultados;
+        try {
+            resultados = transactionTemplate.execute(status -> evaluarEInsertar(lote));
+        } catch (RuntimeException ex) {
+            // Una solicitud inválida (por ejemplo, un bloque inexistente) no debe hacer fallar al resto.
+            LOGGER.warn("Falló el lote de {} reservas, se reintenta una por una: {}", lote.size(), ex.getMessage());
+            resultados = new ArrayList<>(lote.size());
+            for (Solicitud solicitud : lote) {
+                try {
+                    resultados.addAll(transactionTemplate.execute(status -> evaluarEInsertar(List.of(solicitud))));
+                } catch (DataIntegrityViolationException violacion) {
+                    if (esFranjaDuplicada(violacion)) {
+                        // Otro nodo registró la misma franja para este usuario entre la consulta y la inserción.
+                        publicarError(clsDTOSolicitudReserva.rechazada(solicitud.ticket(),
+                                solicitud.datos().getEspacioId(), "Ya tiene una solicitud activa para ese espacio y bloque"));
+                    } else {
+                        // Claves foráneas inexistentes u otros datos que la base de datos no acepta.
+                        LOGGER.warn("No se pudo registrar la solicitud {}: {}", solicitud.ticket(), violacion.getMessage());
+                        publicarError(clsDTOSolicitudReserva.error(solicitud.ticket(), solicitud.datos().getEspacioId(),
+                                "No se pudo registrar la reserva, verifique los datos enviados"));
+                    }
+                } catch (RuntimeException individual) {
+                    LOGGER.warn("No se pudo registrar la solicitud {}: {}", solicitud.ticket(), individual.getMessage());
+                    publicarError(clsDTOSolicitudReserva.error(solicitud.ticket(), solicitud.datos().getEspacioId(),
+                            "No se pudo registrar la reserva, verifique los datos enviados"));
+                }
+            }
+        }
+
+        // Los estados se publican después de confirmar la transacción, que ya los guardó.
+        resultados.forEach(this::publicar);
+    }
+
+    /**
+     * @return {@code true} solo si la violación es la del índice único de franja activa por usuario
+     */
+    private static boolean esFranjaDuplicada(Throwable error) {
+        for (Throwable causa = error; causa != null; causa = causa.getCause()) {
+            if (causa instanceof SQLException sql && sql.getErrorCode() == ERROR_CLAVE_DUPLICADA
+                    && sql.getMessage() != null && sql.getMessage().contains(INDICE_SLOT_ACTIVO)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private List<clsDTOSolicitudReserva> evaluarEInsertar(List<Solicitud> lote) {
+        Set<Integer> espacios = new HashSet<>();
+        Set<LocalDate> fechas = new HashSet<>();
+        for (Solicitud solicitud : lote) {
+            espacios.add(solicitud.datos().getEspacioId());
+            fechas.add(solicitud.datos().getFechaReserva());
+        }
+
+        Set<Franja> aprobadas = new HashSet<>();
+        Set<FranjaUsuario> activasPorUsuario = new HashSet<>();
+        for (clsEntidadReserva existente : repositorioReserva.findActivas(espacios, fechas, ESTADOS_ACTIVOS)) {
+            Franja franja = new Franja(existente.getEspacioId(), existente.getFechaReserva(), existente.getBloqueId());
+            if (ESTADO_APROBADA.equals(existente.getEstado())) {
+                aprobadas.add(franja);
+            }
+            activasPorUsuario.add(new FranjaUsuario(existente.getUsuarioId(), franja));
+        }
+
+        List<clsDTOSolicitudReserva> resultados = new ArrayList<>(lote.size());
+        List<clsEntidadReserva> nuevas = new ArrayList<>(lote.size());
+        List<Solicitud> aceptadas = new ArrayList<>(lote.size());
+
+        for (Solicitud solicitud : lote) {
+            clsDTOReservaRequest datos = solicitud.datos();
+            Franja franja = new Franja(datos.getEspacioId(), datos.getFechaReserva(), datos.getBloqueId());
+
+            if (aprobadas.contains(franja)) {
+                resultados.add(clsDTOSolicitudReserva.rechazada(solicitud.ticket(), datos.getEspacioId(),
+                        "El espacio ya tiene una reserva aprobada en ese bloque"));
+                continue;
+            }
+            if (!activasPorUsuario.add(new FranjaUsuario(datos.getUsuarioId(), franja))) {
+                resultados.add(clsDTOSolicitudReserva.rechazada(solicitud.ticket(), datos.getEspacioId(),
+                        "Ya tiene una solicitud activa para ese espacio y bloque"));
+                continue;
+            }
+
+            clsEntidadReserva reserva = new clsEntidadReserva();
+            reserva.setUsuarioId(datos.getUsuarioId());
+            reserva.setEspacioId(datos.getEspacioId());
+            reserva.setFechaReserva(datos.getFechaReserva());
+            reserva.setBloqueId(datos.getBloqueId());
+            reserva.setEstado(ESTADO_PENDIENTE);
+            reserva.setFechaSolicitud(solicitud.recibida());
+            reserva.setDescripcion(datos.getDescripcion().trim());
+            nuevas.add(reserva);
+            aceptadas.add(solicitud);
+        }
+
+        if (!nuevas.isEmpty()) {
+            repositorioReserva.saveAll(nuevas);
+            repositorioReserva.flush();
+        }
+        for (int i = 0; i < nuevas.size(); i++) {
+            Solicitud solicitud = aceptadas.get(i);
+            clsEntidadReserva reserva = nuevas.get(i);
+            resultados.add(clsDTOSolicitudReserva.registrada(solicitud.ticket(),
+                    solicitud.datos().getEspacioId(), reserva.getId()));
+        }
+        for (clsDTOSolicitudReserva resultado : resultados) {
+            guardar(resultado, false);
+        }
+        return resultados;
+    }
+
+    private void guardar(clsDTOSolicitudReserva estado, boolean soloSiNoExiste) {
+        if (soloSiNoExiste) {
+            repositorioSolicitud.registrar(estado.getTicket(), estado.getEstado(), estado.getMensaje(),
+                    estado.getEspacioId(), estado.getIdReserva(), estado.getActualizado());
+        } else {
+            repositorioSolicitud.guardar(estado.getTicket(), estado.getEstado(), estado.getMensaje(),
+                    estado.getEspacioId(), estado.getIdReserva(), estado.getActualizado());
+        }
+    }
+
+    /**
+     * Publica un estado que no se guardó dentro de la transacción del lote.
+     */
+    private void publicarError(clsDTOSolicitudReserva estado) {
+        try {
+            guardar(estado, false);
+        } catch (RuntimeException ex) {
+            LOGGER.warn("No se pudo guardar el estado del ticket {}: {}", estado.getTicket(), ex.getMessage());
+        }
+        publicar(estado);
+    }
+
+    private clsDTOSolicitudReserva convertir(clsEntidadSolicitudReserva entidad) {
+        return new clsDTOSolicitudReserva(entidad.getTicket(), entidad.getEstado(), entidad.getMensaje(),
+                entidad.getEspacioId(), entidad.getIdReserva(), entidad.getActualizado());
+    }
+
+    private void publicar(clsDTOSolicitudReserva estado) {
+        solicitudes.put(estado.getTicket(), estado);
+        List<SseEmitter> lista = suscriptores.get(estado.getTicket());
+        if (lista != null) {
+            for (SseEmitter emisor : lista) {
+                try {
+                    envios.execute(() -> enviar(emisor, estado));
+                } catch (RejectedExecutionException ex) {
+                    // Sin capacidad para enviar: se cierra el flujo y el cliente consulta el ticket.
+                    emisor.complete();
+                }
+            }
+        }
+    }
+
+    private void enviar(SseEmitter emisor, clsDTOSolicitudReserva estado) {
+        try {
+            emisor.send(SseEmitter.event().name("estado").data(estado));
+            if (estado.isFinalizada()) {
+                emisor.complete();
+            }
+        } catch (IOException | IllegalStateException ex) {
+            emisor.completeWithError(ex);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.integraupt.servicio;
+
+import com.integraupt.dto.clsDTOPaginaReservas;
+import com.integraupt.dto.clsDTOReservaListado;
+import com.integraupt.repositorio.clsRepositorioReserva;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+/**
+ * Servicio de consulta de reservas con paginación por cursor.
+ *
+ * <p>Cada página cuesta una única consulta acotada: se proyecta directamente al DTO con los
+ * datos de usuario, espacio y bloque, y se continúa desde la última (fechaReserva, IdReserva)
+ * entregada. Se pide una fila extra para saber si hay una página siguiente sin ejecutar COUNT.</p>
+ */
+@Service
+@Transactional(readOnly = true)
+public class clsServicioConsultaReservas {
+
+    public static final int LIMITE_POR_DEFECTO = 20;
+    public static final int LIMITE_MAXIMO = 100;
+
+    // Límites del tipo DATE de MySQL, usados como cursor de la primera página.
+    private static final LocalDate FECHA_MINIMA = LocalDate.of(1000, 1, 1);
+    private static final LocalDate FECHA_MAXIMA = LocalDate.of(9999, 12, 31);
+
+    private final clsRepositorioReserva repositorioReserva;
+
+    private record Cursor(LocalDate fecha, Integer id) {}
+
+    public clsServicioConsultaReservas(clsRepositorioReserva repositorioReserva) {
+        this.repositorioReserva = repositorioReserva;
+    }
+
+    /**
+     * Reservas del usuario, de la más reciente a la más antigua.
+     */
+    public clsDTOPaginaReservas listarPorUsuario(Integer usuarioId, String cursor, Integer limite) {
+        Cursor desde = StringUtils.hasText(cursor) ? decodificar(cursor) : new Cursor(FECHA_MAXIMA, Integer.MAX_VALUE);
+        int tamanio = normalizarLimite(limite);
+        return paginar(repositorioReserva.listarPorUsuario(usuarioId, desde.fecha(), desde.id(),
+                PageRequest.of(0, tamanio + 1)), tamanio);
+    }
+
+    /**
+     * Reservas en el estado indicado, en orden cronológico (la cola de aprobación).
+     */
+    public clsDTOPaginaReservas listarPorEstado(String estado, String cursor, Integer limite) {
+        Cursor desde = StringUtils.hasText(cursor) ? decodificar(cursor) : new Cursor(FECHA_MINIMA, 0);
+        int tamanio = normalizarLimite(limite);
+        return paginar(repositorioReserva.listarPorEstado(estado, desde.fecha(), desde.id(),
+                PageRequest.of(0, tamanio + 1)), tamanio);
+    }
+
+    /**
+     * Reservas de un espacio entre dos fechas (ambas opcionales e inclusivas), en orden cronológico.
+     */
+    public clsDTOPaginaReservas listarPorEspacio(Integer espacioId, LocalDate fechaDesde, LocalDate fechaHasta,
+                                                 String cursor, Integer limite) {
+        Cursor desde = StringUtils.hasText(cursor)
+                ? decodificar(cursor)
+                : new Cursor(fechaDesde != null ? fechaDesde : FECHA_MINIMA, 0);
+        LocalDate hasta = fechaHasta != null ? fechaHasta : FECHA_MAXIMA;
+        int tamanio = normalizarLimite(limite);
+        return paginar(repositorioReserva.listarPorEspacio(espacioId, hasta, desde.fecha(), desde.id(),
+                PageRequest.of(0, tamanio + 1)), tamanio);
+    }
+
+    private clsDTOPaginaReservas paginar(List<clsDTOReservaListado> filas, int tamanio) {
+        if (filas.size() <= tamanio) {
+            return new clsDTOPaginaReservas(filas, null);
+        }
+        List<clsDTOReservaListado> pagina = filas.subList(0, tamanio);
+        clsDTOReservaListado ultima = pagina.get(tamanio - 1);
+        return new clsDTOPaginaReservas(List.copyOf(pagina), codificar(ultima.getFechaReserva(), ultima.getIdReserva()));
+    }
+
+    private int normalizarLimite(Integer limite) {
+        if (limite == null || limite <= 0) {
+            return LIMITE_POR_DEFECTO;
+        }
+        return Math.min(limite, LIMITE_MAXIMO);
+    }
+
+    private String codificar(LocalDate fecha, Integer id) {
+        String valor = fecha + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(valor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException si el cursor no fue generado por este servicio
+     */
+    private Cursor decodificar(String cursor) {
+        try {
+            String valor = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separador = valor.indexOf(':');
+            return new Cursor(LocalDate.parse(valor.substring(0, separador)),
+                    Integer.valueOf(valor.substring(separador + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException ex) {
+            throw new IllegalArgumentException("Cursor de paginación inválido", ex);
+        }
+    }
+}
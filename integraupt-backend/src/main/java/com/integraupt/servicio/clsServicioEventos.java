@@ -0,0 +1,318 @@
+package com.integraupt.servicio;
+
+import com.integraupt.dto.clsDTOEvento;
+import com.integraupt.entidad.clsEntidadEvento;
+import com.integraupt.repositorio.clsRepositorioEvento;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Servicio que mantiene en memoria el calendario de eventos agrupado por día.
+ *
+ * <p>Los eventos vigentes (desde el primer día del mes anterior en adelante) se guardan en
+ * cubetas diarias inmutables. La caché se actualiza de forma incremental consultando solo las
+ * filas cuyo {@code updated_at} es posterior a la última marca de agua, y se reconstruye
+ * completa de forma periódica para descartar eventos eliminados y mover la ventana. Los
+ * eventos de más de dos meses no se replican día a día: se guardan como intervalos y se
+ * filtran contra el rango consultado. Los cambios que registran los disparadores de
+ * {@code eventos} (incluidas las eliminaciones) se aplican a través de
+ * {@link clsServicioInvalidacion}.</p>
+ */
+@Service
+public class clsServicioEventos implements clsCacheInvalidable {
+
+    /** Nombre de esta caché en el registro de cambios. */
+    public static final String CACHE = "eventos";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(clsServicioEventos.class);
+
+    /** Duración máxima (en días) de un evento que se replica en las cubetas diarias. */
+    private static final long MAX_DIAS_EN_CUBETAS = 62;
+
+    /** Margen que se vuelve a leer en cada refresco para no perder escrituras concurrentes. */
+    private static final long SOLAPE_SEGUNDOS = 5;
+
+    private static final Comparator<clsDTOEvento> ORDEN_EVENTOS =
+            Comparator.comparing(clsDTOEvento::getFechaInicio).thenComparing(clsDTOEvento::getId);
+
+    private final clsRepositorioEvento repositorioEvento;
+
+    // Publicados con volatile para que las lecturas nunca vean una resincronización a medias.
+    private volatile ConcurrentSkipListMap<LocalDate, List<clsDTOEvento>> eventosPorDia = new ConcurrentSkipListMap<>();
+    private volatile LocalDate inicioVentana;
+    // Eventos más largos que MAX_DIAS_EN_CUBETAS: se guardan como intervalos y se filtran por rango.
+    private volatile List<clsDTOEvento> eventosLargos = List.of();
+
+    // Solo se modifican dentro de los métodos sincronizados de refresco.
+    private Map<String, clsDTOEvento> eventosPorId = new HashMap<>();
+    private LocalDateTime marcaAgua;
+
+    public clsServicioEventos(clsRepositorioEvento repositorioEvento) {
+        this.repositorioEvento = repositorioEvento;
+    }
+
+    /**
+     * Devuelve los eventos que ocurren entre ambas fechas (inclusive), ordenados por inicio.
+     *
+     * @param desde primer día del rango
+     * @param hasta último día del rango
+     * @return eventos del rango sin duplicados
+     */
+    public List<clsDTOEvento> consultarRango(LocalDate desde, LocalDate hasta) {
+        LocalDate ventana = inicioVentana;
+        if (ventana == null || desde.isBefore(ventana)) {
+            // Fechas históricas o caché aún sin cargar: se consulta directamente la base de datos.
+            return repositorioEvento.findEnRango(desde.atStartOfDay(), hasta.plusDays(1).atStartOfDay())
+                    .stream()
+                    .map(this::convertir)
+                    .toList();
+        }
+
+        Map<String, clsDTOEvento> unicos = new LinkedHashMap<>();
+        for (List<clsDTOEvento> cubeta : eventosPorDia.subMap(desde, true, hasta, true).values()) {
+            for (clsDTOEvento evento : cubeta) {
+                unicos.putIfAbsent(evento.getId(), evento);
+            }
+        }
+        for (clsDTOEvento evento : eventosLargos) {
+            if (cruza(evento, desde, hasta)) {
+                unicos.putIfAbsent(evento.getId(), evento);
+            }
+        }
+
+        List<clsDTOEvento> resultado = new ArrayList<>(unicos.values());
+        resultado.sort(ORDEN_EVENTOS);
+        return resultado;
+    }
+
+    /**
+     * Devuelve los eventos de un mes completo.
+     */
+    public List<clsDTOEvento> consultarMes(YearMonth mes) {
+        return consultarRango(mes.atDay(1), mes.atEndOfMonth());
+    }
+
+    /**
+     * Devuelve los eventos de la semana (lunes a domingo) que contiene la fecha indicada.
+     */
+    public List<clsDTOEvento> consultarSemana(LocalDate fecha) {
+        LocalDate lunes = fecha.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        return consultarRango(lunes, lunes.plusDays(6));
+    }
+
+    /**
+     * Aplica a la caché los eventos creados o modificados desde el último refresco.
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${integraupt.eventos.refresco-ms:30000}")
+    public synchronized void refrescarIncremental() {
+        if (marcaAgua == null) {
+            resincronizar();
+            return;
+        }
+
+        try {
+            List<clsEntidadEvento> cambios =
+                    repositorioEvento.findModificadosDespues(marcaAgua.minusSeconds(SOLAPE_SEGUNDOS));
+            for (clsEntidadEvento entidad : cambios) {
+                aplicarCambio(entidad);
+            }
+        } catch (RuntimeException ex) {
+            LOGGER.error("No se pudo refrescar la caché de eventos", ex);
+        }
+    }
+
+    /**
+     * Reconstruye la caché completa: descarta eventos eliminados y desplaza la ventana de fechas.
+     */
+    @Scheduled(initialDelayString = "${integraupt.eventos.resincronizacion-ms:3600000}",
+            fixedDelayString = "${integraupt.eventos.resincronizacion-ms:3600000}")
+    public synchronized void resincronizar() {
+        LocalDate ventana = LocalDate.now().withDayOfMonth(1).minusMonths(1);
+        List<clsEntidadEvento> vigentes;
+        try {
+            vigentes = repositorioEvento.findVigentesDesde(ventana.atStartOfDay());
+        } catch (RuntimeException ex) {
+            LOGGER.error("No se pudo cargar la caché de eventos", ex);
+            return;
+        }
+
+        ConcurrentSkipListMap<LocalDate, List<clsDTOEvento>> nuevasCubetas = new ConcurrentSkipListMap<>();
+        Map<String, clsDTOEvento> nuevosPorId = new HashMap<>();
+        List<clsDTOEvento> nuevosLargos = new ArrayList<>();
+        LocalDateTime nuevaMarca = ventana.atStartOfDay();
+
+        Map<LocalDate, List<clsDTOEvento>> acumulado = new HashMap<>();
+        for (clsEntidadEvento entidad : vigentes) {
+            clsDTOEvento evento = convertir(entidad);
+            nuevosPorId.put(evento.getId(), evento);
+            if (esLargo(evento)) {
+                nuevosLargos.add(evento);
+            } else {
+                for (LocalDate dia : diasDelEvento(evento, ventana)) {
+                    acumulado.computeIfAbsent(dia, clave -> new ArrayList<>()).add(evento);
+                }
+            }
+            nuevaMarca = maximo(nuevaMarca, marcaDe(entidad));
+        }
+        acumulado.forEach((dia, lista) -> {
+            lista.sort(ORDEN_EVENTOS);
+            nuevasCubetas.put(dia, List.copyOf(lista));
+        });
+
+        eventosPorId = nuevosPorId;
+        marcaAgua = nuevaMarca;
+        eventosPorDia = nuevasCubetas;
+        eventosLargos = List.copyOf(nuevosLargos);
+        inicioVentana = ventana;
+        LOGGER.info("Caché de eventos cargada: {} eventos en {} días", nuevosPorId.size(), nuevasCubetas.size());
+    }
+
+    @Override
+    public String nombreCache() {
+        return CACHE;
+    }
+
+    /**
+     * Recarga un evento concreto desde la base de datos, o lo retira si ya no existe.
+     */
+    @Override
+    public synchronized void invalidar(String clave) {
+        if (inicioVentana == null) {
+            return;
+        }
+        repositorioEvento.findById(clave).ifPresentOrElse(this::aplicarCambio, () -> retirar(clave));
+    }
+
+    @Override
+    public void invalidarTodo() {
+        resincronizar();
+    }
+
+    private void retirar(String id) {
+        clsDTOEvento anterior = eventosPorId.remove(id);
+        if (anterior == null) {
+            return;
+        }
+        if (esLargo(anterior)) {
+            eventosLargos = quitarOVacia(eventosLargos, id);
+            return;
+        }
+        for (LocalDate dia : diasDelEvento(anterior, inicioVentana)) {
+            eventosPorDia.computeIfPresent(dia, (clave, lista) -> quitar(lista, id));
+        }
+    }
+
+    private void aplicarCambio(clsEntidadEvento entidad) {
+        LocalDate ventana = inicioVentana;
+        retirar(entidad.getId());
+
+        clsDTOEvento evento = convertir(entidad);
+        if (esLargo(evento)) {
+            if (!finDe(evento).isBefore(ventana)) {
+                eventosPorId.put(evento.getId(), evento);
+                List<clsDTOEvento> copia = new ArrayList<>(eventosLargos);
+                copia.add(evento);
+                eventosLargos = List.copyOf(copia);
+            }
+            marcaAgua = maximo(marcaAgua, marcaDe(entidad));
+            return;
+        }
+
+        List<LocalDate> dias = diasDelEvento(evento, ventana);
+        if (!dias.isEmpty()) {
+            eventosPorId.put(evento.getId(), evento);
+            for (LocalDate dia : dias) {
+                eventosPorDia.compute(dia, (clave, lista) -> agregar(lista, evento));
+            }
+        }
+
+        marcaAgua = maximo(marcaAgua, marcaDe(entidad));
+    }
+
+    private List<clsDTOEvento> quitar(List<clsDTOEvento> lista, String id) {
+        List<clsDTOEvento> copia = new ArrayList<>(lista);
+        copia.removeIf(evento -> evento.getId().equals(id));
+        return copia.isEmpty() ? null : List.copyOf(copia);
+    }
+
+    private List<clsDTOEvento> quitarOVacia(List<clsDTOEvento> lista, String id) {
+        List<clsDTOEvento> copia = quitar(lista, id);
+        return copia != null ? copia : List.of();
+    }
+
+    private List<clsDTOEvento> agregar(List<clsDTOEvento> lista, clsDTOEvento evento) {
+        List<clsDTOEvento> copia = lista != null ? new ArrayList<>(lista) : new ArrayList<>(1);
+        copia.add(evento);
+        copia.sort(ORDEN_EVENTOS);
+        return List.copyOf(copia);
+    }
+
+    private List<LocalDate> diasDelEvento(clsDTOEvento evento, LocalDate ventana) {
+        LocalDate inicio = evento.getFechaInicio().toLocalDate();
+        LocalDate fin = finDe(evento);
+        if (inicio.isBefore(ventana)) {
+            inicio = ventana;
+        }
+
+        List<LocalDate> dias = new ArrayList<>();
+        for (LocalDate dia = inicio; !dia.isAfter(fin); dia = dia.plusDays(1)) {
+            dias.add(dia);
+        }
+        return dias;
+    }
+
+    private LocalDate finDe(clsDTOEvento evento) {
+        LocalDate inicio = evento.getFechaInicio().toLocalDate();
+        LocalDate fin = evento.getFechaFin() != null ? evento.getFechaFin().toLocalDate() : inicio;
+        return fin.isBefore(inicio) ? inicio : fin;
+    }
+
+    private boolean esLargo(clsDTOEvento evento) {
+        return ChronoUnit.DAYS.between(evento.getFechaInicio().toLocalDate(), finDe(evento)) >= MAX_DIAS_EN_CUBETAS;
+    }
+
+    private boolean cruza(clsDTOEvento evento, LocalDate desde, LocalDate hasta) {
+        return !evento.getFechaInicio().toLocalDate().isAfter(hasta) && !finDe(evento).isBefore(desde);
+    }
+
+    private LocalDateTime marcaDe(clsEntidadEvento entidad) {
+        return entidad.getUpdatedAt() != null ? entidad.getUpdatedAt() : entidad.getCreatedAt();
+    }
+
+    private LocalDateTime maximo(LocalDateTime actual, LocalDateTime candidata) {
+        if (candidata == null) {
+            return actual;
+        }
+        return candidata.isAfter(actual) ? candidata : actual;
+    }
+
+    private clsDTOEvento convertir(clsEntidadEvento entidad) {
+        return new clsDTOEvento(
+                entidad.getId(),
+                entidad.getTitulo(),
+                entidad.getDescripcion(),
+                entidad.getEstado(),
+                entidad.getFechaInicio(),
+                entidad.getFechaFin(),
+                entidad.getImagenUrl(),
+                entidad.getOrganizador(),
+                entidad.getTipo(),
+                entidad.getUbicacion()
+        );
+    }
+}
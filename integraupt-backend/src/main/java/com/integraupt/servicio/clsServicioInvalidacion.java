@@ -0,0 +1,182 @@
+package com.integraupt.servicio;
+
+import com.integraupt.entidad.clsEntidadCambioCache;
+import com.integraupt.repositorio.clsRepositorioCambioCache;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+/**
+ * Bus de invalidación de cachés entre nodos basado en la tabla {@code cambios_cache}.
+ *
+ * <p>Los disparadores de {@code eventos}, {@code espacio}, {@code facultad} y {@code escuela}
+ * agregan una fila al registro dentro de la misma transacción que la escritura, venga de esta
+ * aplicación o de cualquier otra. Todos los nodos leen periódicamente las filas nuevas por clave
+ * primaria y desalojan las entradas afectadas. Si un nodo se queda demasiado atrás, o las filas
+ * que le faltaban ya fueron purgadas, invalida todas sus cachés y continúa desde el final del
+ * registro.</p>
+ */
+@Service
+public class clsServicioInvalidacion {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(clsServicioInvalidacion.class);
+
+    /** Cambios pendientes a partir de los cuales es más barato resincronizar todo. */
+    private static final long MAX_RETRASO = 5000;
+
+    /** Huecos de IdCambio más grandes que esto se consideran saltos del autoincremento. */
+    private static final long MAX_HUECO = 1000;
+
+    /** Tiempo que se vigila un IdCambio ausente por si pertenece a una transacción aún abierta. */
+    private static final Duration ESPERA_HUECOS = Duration.ofSeconds(30);
+
+    private final clsRepositorioCambioCache repositorioCambioCache;
+    private final ObjectProvider<clsCacheInvalidable> caches;
+    private final String nodo;
+    private final int retencionHoras;
+
+    // Solo se modifican en iniciar() y dentro de sondear(), que es sincronizado.
+    private long ultimoId = -1;
+    private final Map<Long, Instant> huecos = new HashMap<>();
+
+    public clsServicioInvalidacion(clsRepositorioCambioCache repositorioCambioCache,
+                                   ObjectProvider<clsCacheInvalidable> caches,
+                                   @Value("${integraupt.cache.nodo:}") String nodo,
+                                   @Value("${integraupt.cache.retencion-horas:24}") int retencionHoras) {
+        this.repositorioCambioCache = repositorioCambioCache;
+        this.caches = caches;
+        this.nodo = StringUtils.hasText(nodo) ? nodo.trim() : UUID.randomUUID().toString();
+        this.retencionHoras = retencionHoras;
+    }
+
+    /**
+     * Fija la posición inicial en el registro antes de que las cachés hagan su primera carga,
+     * que se programa al terminar de arrancar el contexto. Así, un cambio registrado entre esa
+     * carga y el primer sondeo se vuelve a aplicar en lugar de perderse.
+     */
+    @PostConstruct
+    synchronized void iniciar() {
+        try {
+            ultimoId = repositorioCambioCache.findMaxId();
+        } catch (RuntimeException ex) {
+            LOGGER.warn("No se pudo leer la posición inicial del registro de cambios; "
+                    + "se resincronizarán las cachés en el primer sondeo", ex);
+        }
+    }
+
+    /**
+     * Lee las filas nuevas del registro y desaloja las entradas afectadas.
+     */
+    @Scheduled(fixedDelayString = "${integraupt.cache.sondeo-ms:1000}")
+    public synchronized void sondear() {
+        try {
+            long maximo = repositorioCambioCache.findMaxId();
+            if (ultimoId < 0) {
+                // Sin posición inicial no se sabe qué cambios vieron las cachés: se recargan todas.
+                resincronizar(maximo);
+                return;
+            }
+            if (maximo <= ultimoId && huecos.isEmpty()) {
+                return;
+            }
+
+            long minimo = repositorioCambioCache.findMinId();
+            if (maximo - ultimoId > MAX_RETRASO || (maximo > ultimoId && minimo > ultimoId + 1)) {
+                resincronizar(maximo);
+                return;
+            }
+
+            Instant ahora = Instant.now();
+            Map<String, Set<String>> porCache = new LinkedHashMap<>();
+            if (!huecos.isEmpty()) {
+                for (clsEntidadCambioCache cambio : repositorioCambioCache.findByIdIn(huecos.keySet())) {
+                    huecos.remove(cambio.getId());
+                    acumular(porCache, cambio);
+                }
+            }
+
+            List<clsEntidadCambioCache> nuevos = repositorioCambioCache.findTop500ByIdGreaterThanOrderByIdAsc(ultimoId);
+            for (clsEntidadCambioCache cambio : nuevos) {
+                long id = cambio.getId();
+                if (id - ultimoId - 1 <= MAX_HUECO) {
+                    for (long faltante = ultimoId + 1; faltante < id; faltante++) {
+                        huecos.putIfAbsent(faltante, ahora);
+                    }
+                }
+                ultimoId = id;
+                acumular(porCache, cambio);
+            }
+            // Una ráfaga de cambios sobre la misma caché se aplica en una sola llamada.
+            porCache.forEach(this::aplicarVarias);
+
+            Instant limite = ahora.minus(ESPERA_HUECOS);
+            huecos.values().removeIf(instante -> instante.isBefore(limite));
+        } catch (RuntimeException ex) {
+            LOGGER.error("No se pudo sondear el registro de cambios de caché", ex);
+        }
+    }
+
+    /**
+     * Elimina del registro los cambios más antiguos que el periodo de retención.
+     */
+    @Scheduled(fixedDelayString = "${integraupt.cache.purga-ms:3600000}")
+    public void purgar() {
+        try {
+            int eliminados = repositorioCambioCache.deleteAnterioresA(LocalDateTime.now().minusHours(retencionHoras));
+            if (eliminados > 0) {
+                LOGGER.debug("Registro de cambios de caché purgado: {} filas", eliminados);
+            }
+        } catch (RuntimeException ex) {
+            LOGGER.error("No se pudo purgar el registro de cambios de caché", ex);
+        }
+    }
+
+    private void resincronizar(long maximo) {
+        LOGGER.warn("Nodo {} atrasado en el registro de cambios (último {} / actual {}); se invalidan todas las cachés",
+                nodo, ultimoId, maximo);
+        caches.orderedStream().forEach(cache -> {
+            try {
+                cache.invalidarTodo();
+            } catch (RuntimeException ex) {
+                LOGGER.error("Error resincronizando la caché {}", cache.nombreCache(), ex);
+            }
+        });
+        ultimoId = maximo;
+        huecos.clear();
+    }
+
+    private void acumular(Map<String, Set<String>> porCache, clsEntidadCambioCache cambio) {
+        porCache.computeIfAbsent(cambio.getCache(), cache -> new LinkedHashSet<>()).add(cambio.getClave());
+    }
+
+    private void aplicarVarias(String nombreCache, Set<String> claves) {
+        caches.orderedStream()
+                .filter(cache -> cache.nombreCache().equals(nombreCache))
+                .forEach(cache -> {
+                    try {
+                        if (claves.contains(null)) {
+                            cache.invalidarTodo();
+                        } else {
+                            cache.invalidarVarias(claves);
+                        }
+                    } catch (RuntimeException ex) {
+                        LOGGER.error("Error invalidando la caché {} ({} claves)", nombreCache, claves.size(), ex);
+                    }
+                });
+    }
+}
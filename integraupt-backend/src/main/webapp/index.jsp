@@ -192,7 +192,7 @@
                 </li>
                 <li>
                     <span class="method post">POST</span>
-                    <span>/api/reservas/crear</span>
+                    <span>/api/reservas/solicitudes</span>
                 </li>
             </ul>
         </div>
@@ -0,0 +1,87 @@
+package com.integraupt.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.integraupt.dto.clsDTOLoginResponse.PerfilDTO;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifica que los serializadores escritos a mano de la respuesta de inicio de sesión
+ * emitan todos los componentes de los records, con los mismos nombres y valores.
+ */
+class clsDTOLoginResponseTest {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    void serializaCadaComponenteDelPerfil() throws Exception {
+        PerfilDTO perfil = perfilConValoresDistintos();
+
+        JsonNode json = mapper.readTree(mapper.writeValueAsString(
+                clsDTOLoginResponse.success("Inicio de sesión exitoso", perfil, "token")));
+        JsonNode nodoPerfil = json.get("perfil");
+
+        // Si se agrega un componente al record y no al serializador, esta comparación falla.
+        assertThat(nombresDeCampos(nodoPerfil)).containsExactlyElementsOf(nombresDeComponentes(PerfilDTO.class));
+        for (RecordComponent componente : PerfilDTO.class.getRecordComponents()) {
+            assertThat(nodoPerfil.get(componente.getName()).asText())
+                    .as(componente.getName())
+                    .isEqualTo(componente.getAccessor().invoke(perfil));
+        }
+    }
+
+    @Test
+    void serializaCadaComponenteDeLaRespuesta() throws Exception {
+        JsonNode json = mapper.readTree(mapper.writeValueAsString(
+                clsDTOLoginResponse.success("Inicio de sesión exitoso", perfilConValoresDistintos(), "token")));
+
+        assertThat(nombresDeCampos(json)).containsExactlyElementsOf(nombresDeComponentes(clsDTOLoginResponse.class));
+    }
+
+    @Test
+    void conservaLosValoresAlVolverALeerElJson() throws Exception {
+        PerfilDTO perfil = new PerfilDTO("5", "2023076802", "STEVIE", "O\"Brien \\ ñandú", "1@upt.pe",
+                clsCatalogoPerfil.rol(1), clsCatalogoPerfil.LOGIN_ACADEMICO, null, clsCatalogoPerfil.ESTADO_ACTIVO,
+                "979793902", clsCatalogoPerfil.escuela(1), clsCatalogoPerfil.facultad(1),
+                clsCatalogoPerfil.GENERO_MASCULINO, "72405382");
+        clsDTOLoginResponse respuesta = clsDTOLoginResponse.success("Inicio de sesión exitoso", perfil, "dG9rZW4=");
+
+        clsDTOLoginResponse leida = mapper.readValue(mapper.writeValueAsString(respuesta), clsDTOLoginResponse.class);
+
+        assertThat(leida).isEqualTo(respuesta);
+    }
+
+    @Test
+    void serializaLaRespuestaDeErrorSinPerfil() throws Exception {
+        clsDTOLoginResponse respuesta = clsDTOLoginResponse.error("Credenciales inválidas");
+
+        String json = mapper.writeValueAsString(respuesta);
+
+        assertThat(json).isEqualTo(
+                "{\"success\":false,\"message\":\"Credenciales inválidas\",\"perfil\":null,\"token\":null}");
+        assertThat(mapper.readValue(json, clsDTOLoginResponse.class)).isEqualTo(respuesta);
+    }
+
+    private static PerfilDTO perfilConValoresDistintos() throws Exception {
+        RecordComponent[] componentes = PerfilDTO.class.getRecordComponents();
+        Class<?>[] tipos = Arrays.stream(componentes).map(RecordComponent::getType).toArray(Class<?>[]::new);
+        Object[] valores = Arrays.stream(componentes).map(componente -> "valor-" + componente.getName()).toArray();
+        return PerfilDTO.class.getDeclaredConstructor(tipos).newInstance(valores);
+    }
+
+    private static List<String> nombresDeComponentes(Class<? extends Record> tipo) {
+        return Arrays.stream(tipo.getRecordComponents()).map(RecordComponent::getName).toList();
+    }
+
+    private static List<String> nombresDeCampos(JsonNode nodo) {
+        List<String> nombres = new ArrayList<>();
+        nodo.fieldNames().forEachRemaining(nombres::add);
+        return nombres;
+    }
+}
@@ -0,0 +1,274 @@
+package com.integraupt.servicio;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.integraupt.dto.clsDTOLoginRequest;
+import com.integraupt.entidad.clsEntidadUsuario;
+import com.integraupt.repositorio.clsRepositorioAuth;
+import com.sun.management.ThreadMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Compara los bytes asignados por el hilo en un inicio de sesión completo (autenticación y
+ * serialización a JSON) entre el servicio actual y la versión anterior basada en beans.
+ */
+class clsServicioAuthAsignacionTest {
+
+    private static final int CALENTAMIENTO = 20_000;
+    private static final int ITERACIONES = 50_000;
+
+    private interface Operacion {
+        Object ejecutar() throws Exception;
+    }
+
+    @Test
+    void asignaMenosQueLaVersionConBeans() throws Exception {
+        ThreadMXBean hilos = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(hilos.isThreadAllocatedMemorySupported(), "La JVM no mide asignaciones por hilo");
+        hilos.setThreadAllocatedMemoryEnabled(true);
+
+        clsRepositorioAuth repositorio = repositorioCon(usuario());
+        clsServicioAuth servicio = new clsServicioAuth(repositorio);
+        LoginConBeans anterior = new LoginConBeans(repositorio);
+        ObjectMapper mapper = new ObjectMapper();
+        clsDTOLoginRequest request = new clsDTOLoginRequest();
+        request.setCodigoOEmail("2023076802");
+        request.setPassword("123");
+        request.setTipoLogin("Academic");
+
+        Operacion actual = () -> mapper.writeValueAsBytes(servicio.autenticarUsuario(request));
+        Operacion conBeans = () -> mapper.writeValueAsBytes(anterior.autenticar(request));
+        // Ambas versiones deben producir el mismo JSON salvo el token, que depende de la hora.
+        assertThat(mapper.readTree((byte[]) actual.ejecutar()).get("perfil"))
+                .isEqualTo(mapper.readTree((byte[]) conBeans.ejecutar()).get("perfil"));
+
+        medir(hilos, actual, CALENTAMIENTO);
+        medir(hilos, conBeans, CALENTAMIENTO);
+        long bytesActual = medir(hilos, actual, ITERACIONES);
+        long bytesConBeans = medir(hilos, conBeans, ITERACIONES);
+
+        assertThat(bytesActual)
+                .as("bytes por inicio de sesión (actual %d, con beans %d)", bytesActual, bytesConBeans)
+                .isLessThan(bytesConBeans);
+    }
+
+    private static long medir(ThreadMXBean hilos, Operacion operacion, int iteraciones) throws Exception {
+        long hilo = Thread.currentThread().getId();
+        Object resultado = null;
+        long antes = hilos.getThreadAllocatedBytes(hilo);
+        for (int i = 0; i < iteraciones; i++) {
+            resultado = operacion.ejecutar();
+        }
+        long despues = hilos.getThreadAllocatedBytes(hilo);
+        assertThat(resultado).isNotNull();
+        return (despues - antes) / iteraciones;
+    }
+
+    private static clsEntidadUsuario usuario() {
+        clsEntidadUsuario usuario = new clsEntidadUsuario();
+        usuario.setId(5);
+        usuario.setNombres("STEVIE");
+        usuario.setApellidos("MARCA");
+        usuario.setCodigo("2023076802");
+        usuario.setEmail("1@upt.pe");
+        usuario.setTipoDocumento("DNI");
+        usuario.setNumeroDocumento("72405382");
+        usuario.setRolId(1);
+        usuario.setFacultadId(1);
+        usuario.setEscuelaId(1);
+        usuario.setCelular("979793902");
+        usuario.setGenero(Boolean.TRUE);
+        usuario.setPassword("123");
+        usuario.setEstado(1);
+        return usuario;
+    }
+
+    /**
+     * Repositorio sin base de datos ni mocks que registren invocaciones, para no sumar
+     * asignaciones ajenas al inicio de sesión.
+     */
+    private static clsRepositorioAuth repositorioCon(clsEntidadUsuario usuario) {
+        Optional<clsEntidadUsuario> encontrado = Optional.of(usuario);
+        return (clsRepositorioAuth) Proxy.newProxyInstance(clsRepositorioAuth.class.getClassLoader(),
+                new Class<?>[] {clsRepositorioAuth.class}, (proxy, metodo, args) -> {
+                    if (metodo.getName().equals("findFirstByCodigoIgnoreCase")) {
+                        return encontrado;
+                    }
+                    if (metodo.getName().equals("findFirstByEmailIgnoreCase")) {
+                        return Optional.empty();
+                    }
+                    throw new UnsupportedOperationException(metodo.getName());
+                });
+    }
+
+    /**
+     * Ruta de éxito del servicio anterior: mapas de nombres, texto en minúsculas por solicitud
+     * y DTO mutable serializado por introspección de Jackson.
+     */
+    private static final class LoginConBeans {
+
+        private static final Map<Integer, String> ROL_NOMBRES = Map.of(1, "Profesor", 2, "Estudiante", 3, "Administrador");
+        private static final Map<Integer, String> FACULTAD_NOMBRES = Map.of(1, "FAING");
+        private static final Map<Integer, String> ESCUELA_NOMBRES = Map.of(1, "Ing. Civil");
+
+        private final clsRepositorioAuth repositorio;
+
+        LoginConBeans(clsRepositorioAuth repositorio) {
+            this.repositorio = repositorio;
+        }
+
+        RespuestaConBeans autenticar(clsDTOLoginRequest request) {
+            String identificador = request.getCodigoOEmail().trim();
+            String password = request.getPassword().trim();
+            String tipoLogin = request.getTipoLogin().trim();
+
+            clsEntidadUsuario usuario = repositorio.findFirstByCodigoIgnoreCase(identificador)
+                    .or(() -> repositorio.findFirstByEmailIgnoreCase(identificador))
+                    .filter(valor -> coincide(valor, tipoLogin))
+                    .orElseThrow();
+            if (!usuario.getPassword().equals(password)) {
+                throw new IllegalStateException("Credenciales inválidas");
+            }
+
+            PerfilConBeans perfil = new PerfilConBeans();
+            perfil.id = usuario.getId().toString();
+            perfil.codigo = usuario.getCodigo();
+            perfil.nombres = usuario.getNombres();
+            perfil.apellidos = usuario.getApellidos();
+            perfil.email = usuario.getEmail();
+            perfil.rol = ROL_NOMBRES.getOrDefault(usuario.getRolId(), usuario.getRolId().toString());
+            perfil.tipoLogin = tipoLogin.trim().toLowerCase(Locale.ROOT);
+            perfil.estado = usuario.getEstado() == 1 ? "Activo" : "Inactivo";
+            perfil.celular = usuario.getCelular();
+            perfil.escuela = ESCUELA_NOMBRES.getOrDefault(usuario.getEscuelaId(), usuario.getEscuelaId().toString());
+            perfil.facultad = FACULTAD_NOMBRES.getOrDefault(usuario.getFacultadId(), usuario.getFacultadId().toString());
+            perfil.genero = usuario.getGenero() ? "Masculino" : "Femenino";
+            perfil.numeroDocumento = usuario.getNumeroDocumento();
+
+            String payload = String.valueOf(usuario.getId()) + ":" + Instant.now();
+            String token = Base64.getEncoder().encodeToString(payload.getBytes(StandardCharsets.UTF_8));
+            return new RespuestaConBeans(true, "Inicio de sesión exitoso", perfil, token);
+        }
+
+        private boolean coincide(clsEntidadUsuario usuario, String tipoLogin) {
+            return switch (tipoLogin.toLowerCase(Locale.ROOT)) {
+                case "academic", "academico", "académico" -> usuario.getRolId() == 1 || usuario.getRolId() == 2;
+                case "administrative", "administrativo" -> usuario.getRolId() == 3;
+                default -> true;
+            };
+        }
+    }
+
+    public static final class RespuestaConBeans {
+        private final boolean success;
+        private final String message;
+        private final PerfilConBeans perfil;
+        private final String token;
+
+        RespuestaConBeans(boolean success, String message, PerfilConBeans perfil, String token) {
+            this.success = success;
+            this.message = message;
+            this.perfil = perfil;
+            this.token = token;
+        }
+
+        public boolean isSuccess() {
+            return success;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        public PerfilConBeans getPerfil() {
+            return perfil;
+        }
+
+        public String getToken() {
+            return token;
+        }
+    }
+
+    public static final class PerfilConBeans {
+        private String id;
+        private String codigo;
+        private String nombres;
+        private String apellidos;
+        private String email;
+        private String rol;
+        private String tipoLogin;
+        private String avatarUrl;
+        private String estado;
+        private String celular;
+        private String escuela;
+        private String facultad;
+        private String genero;
+        private String numeroDocumento;
+
+        public String getId() {
+            return id;
+        }
+
+        public String getCodigo() {
+            return codigo;
+        }
+
+        public String getNombres() {
+            return nombres;
+        }
+
+        public String getApellidos() {
+            return apellidos;
+        }
+
+        public String getEmail() {
+            return email;
+        }
+
+        public String getRol() {
+            return rol;
+        }
+
+        public String getTipoLogin() {
+            return tipoLogin;
+        }
+
+        public String getAvatarUrl() {
+            return avatarUrl;
+        }
+
+        public String getEstado() {
+            return estado;
+        }
+
+        public String getCelular() {
+            return celular;
+        }
+
+        public String getEscuela() {
+            return escuela;
+        }
+
+        public String getFacultad() {
+            return facultad;
+        }
+
+        public String getGenero() {
+            return genero;
+        }
+
+        public String getNumeroDocumento() {
+            return numeroDocumento;
+        }
+    }
+}
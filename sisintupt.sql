@@ -19,6 +19,30 @@
 CREATE DATABASE IF NOT EXISTS `sisintupt` /*!40100 DEFAULT CHARACTER SET utf8mb4 COLLATE utf8mb4_general_ci */;
 USE `sisintupt`;
 
+-- Volcando estructura para tabla sisintupt.analitica_deltas
+CREATE TABLE IF NOT EXISTS `analitica_deltas` (
+  `IdDelta` bigint(20) NOT NULL AUTO_INCREMENT,
+  `Dimension` varchar(20) NOT NULL,
+  `Valor` varchar(50) NOT NULL,
+  `Estado` varchar(50) NOT NULL,
+  `Delta` int(11) NOT NULL,
+  PRIMARY KEY (`IdDelta`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci;
+
+-- Volcando datos para la tabla sisintupt.analitica_deltas: ~0 rows (aproximadamente)
+
+-- Volcando estructura para tabla sisintupt.analitica_reservas
+CREATE TABLE IF NOT EXISTS `analitica_reservas` (
+  `Dimension` varchar(20) NOT NULL,
+  `Valor` varchar(50) NOT NULL,
+  `Estado` varchar(50) NOT NULL,
+  `Total` bigint(20) NOT NULL DEFAULT 0,
+  `Actualizado` datetime(6) NOT NULL DEFAULT current_timestamp(6),
+  PRIMARY KEY (`Dimension`,`Valor`,`Estado`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci;
+
+-- Volcando datos para la tabla sisintupt.analitica_reservas: ~0 rows (aproximadamente)
+
 -- Volcando estructura para tabla sisintupt.auditoria
 CREATE TABLE IF NOT EXISTS `auditoria` (
   `id` varchar(36) NOT NULL,
@@ -52,6 +76,19 @@ INSERT INTO `bloqueshorarios` (`IdBloque`, `Orden`, `Nombre`, `HoraInicio`, `Hor
 	(11, 2, 'B2', '08:50:00', '09:40:00'),
 	(13, 3, 'B3', '09:40:00', '10:30:00');
 
+-- Volcando estructura para tabla sisintupt.cambios_cache
+CREATE TABLE IF NOT EXISTS `cambios_cache` (
+  `IdCambio` bigint(20) NOT NULL AUTO_INCREMENT,
+  `Cache` varchar(50) NOT NULL,
+  `Clave` varchar(100) DEFAULT NULL,
+  `Nodo` varchar(64) NOT NULL,
+  `Fecha` datetime(6) NOT NULL DEFAULT current_timestamp(6),
+  PRIMARY KEY (`IdCambio`),
+  KEY `IDX_cambios_cache_fecha` (`Fecha`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci;
+
+-- Volcando datos para la tabla sisintupt.cambios_cache: ~0 rows (aproximadamente)
+
 -- Volcando estructura para tabla sisintupt.escuela
 CREATE TABLE IF NOT EXISTS `escuela` (
   `IdEscuela` int(11) NOT NULL AUTO_INCREMENT,
@@ -146,7 +183,9 @@ CREATE TABLE IF NOT EXISTS `eventos` (
   `titulo` varchar(200) NOT NULL,
   `ubicacion` varchar(200) DEFAULT NULL,
   `updated_at` datetime(6) DEFAULT NULL,
-  PRIMARY KEY (`id`)
+  PRIMARY KEY (`id`),
+  KEY `IDX_eventos_fecha_inicio` (`fecha_inicio`),
+  KEY `IDX_eventos_updated_at` (`updated_at`,`created_at`)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci;
 
 -- Volcando datos para la tabla sisintupt.eventos: ~0 rows (aproximadamente)
@@ -365,11 +404,14 @@ CREATE TABLE IF NOT EXISTS `reserva` (
   `bloque` int(11) NOT NULL,
   `estado` varchar(50) NOT NULL DEFAULT 'Pendiente',
   `fechaSolicitud` datetime NOT NULL DEFAULT current_timestamp(),
-  `Descripcion` tinytext NOT NULL,
+  `Descripcion` text NOT NULL,
   `Motivo` tinytext DEFAULT NULL,
+  `SlotActivo` tinyint(1) GENERATED ALWAYS AS (if(`estado` in ('Pendiente','Aprobada'),1,NULL)) STORED,
   PRIMARY KEY (`IdReserva`),
-  KEY `FK_reserva_espacio` (`espacio`),
-  KEY `FK_reserva_usuario` (`usuario`),
+  UNIQUE KEY `UQ_reserva_slot_activo` (`usuario`,`espacio`,`fechaReserva`,`bloque`,`SlotActivo`),
+  KEY `IDX_reserva_espacio_fecha` (`espacio`,`fechaReserva`,`IdReserva`),
+  KEY `IDX_reserva_usuario_fecha` (`usuario`,`fechaReserva`,`IdReserva`),
+  KEY `IDX_reserva_estado_fecha` (`estado`,`fechaReserva`,`IdReserva`),
   KEY `FK_reserva_bloqueshorarios` (`bloque`),
   CONSTRAINT `FK_reserva_bloqueshorarios` FOREIGN KEY (`bloque`) REFERENCES `bloqueshorarios` (`IdBloque`) ON DELETE NO ACTION ON UPDATE NO ACTION,
   CONSTRAINT `FK_reserva_espacio` FOREIGN KEY (`espacio`) REFERENCES `espacio` (`IdEspacio`) ON DELETE NO ACTION ON UPDATE NO ACTION,
@@ -428,6 +470,41 @@ INSERT INTO `rol` (`IdRol`, `Nombre`) VALUES
 	(2, 'Estudiante'),
 	(3, 'Administrador');
 
+-- Volcando estructura para tabla sisintupt.solicitudes_reserva
+CREATE TABLE IF NOT EXISTS `solicitudes_reserva` (
+  `Ticket` varchar(36) NOT NULL,
+  `Estado` varchar(20) NOT NULL,
+  `Mensaje` varchar(255) DEFAULT NULL,
+  `Espacio` int(11) DEFAULT NULL,
+  `IdReserva` int(11) DEFAULT NULL,
+  `Actualizado` datetime(6) NOT NULL,
+  PRIMARY KEY (`Ticket`),
+  KEY `IDX_solicitudes_reserva_actualizado` (`Actualizado`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci;
+
+-- Volcando datos para la tabla sisintupt.solicitudes_reserva: ~0 rows (aproximadamente)
+
+-- Volcando estructura para procedimiento sisintupt.sp_analitica_registrar
+DELIMITER //
+CREATE PROCEDURE `sp_analitica_registrar`(
+	IN `p_espacio` INT,
+	IN `p_bloque` INT,
+	IN `p_fecha` DATE,
+	IN `p_estado` VARCHAR(50),
+	IN `p_delta` INT
+)
+BEGIN
+    -- Un incremento por dimensión; el backend los suma a analitica_reservas periódicamente
+    INSERT INTO analitica_deltas (Dimension, Valor, Estado, Delta)
+    SELECT 'global', '*', p_estado, p_delta
+    UNION ALL SELECT 'espacio', CAST(p_espacio AS CHAR), p_estado, p_delta
+    UNION ALL SELECT 'bloque', CAST(p_bloque AS CHAR), p_estado, p_delta
+    UNION ALL SELECT 'dia', CAST(WEEKDAY(p_fecha) + 1 AS CHAR), p_estado, p_delta
+    UNION ALL SELECT 'escuela', CAST(e.Escuela AS CHAR), p_estado, p_delta
+              FROM espacio e WHERE e.IdEspacio = p_espacio;
+END//
+DELIMITER ;
+
 -- Volcando estructura para tabla sisintupt.usuario
 CREATE TABLE IF NOT EXISTS `usuario` (
   `IdUsuario` int(11) NOT NULL AUTO_INCREMENT,
@@ -523,6 +600,118 @@ END//
 DELIMITER ;
 SET SQL_MODE=@OLDTMP_SQL_MODE;
 
+-- Volcando estructura para disparador sisintupt.trg_escuela_cambios_update
+SET @OLDTMP_SQL_MODE=@@SQL_MODE, SQL_MODE='NO_ZERO_IN_DATE,NO_ZERO_DATE,NO_ENGINE_SUBSTITUTION';
+DELIMITER //
+CREATE TRIGGER trg_escuela_cambios_update
+AFTER UPDATE ON escuela
+FOR EACH ROW
+BEGIN
+    -- Los nombres se copian en el catálogo de espacios: se pide recargarlo completo
+    INSERT INTO cambios_cache (Cache, Clave, Nodo)
+    VALUES ('espacios', NULL, 'db');
+END//
+DELIMITER ;
+SET SQL_MODE=@OLDTMP_SQL_MODE;
+
+-- Volcando estructura para disparador sisintupt.trg_espacio_cambios_delete
+SET @OLDTMP_SQL_MODE=@@SQL_MODE, SQL_MODE='NO_ZERO_IN_DATE,NO_ZERO_DATE,NO_ENGINE_SUBSTITUTION';
+DELIMITER //
+CREATE TRIGGER trg_espacio_cambios_delete
+AFTER DELETE ON espacio
+FOR EACH ROW
+BEGIN
+    -- Registrar el cambio para que todos los nodos invaliden su caché de espacios
+    INSERT INTO cambios_cache (Cache, Clave, Nodo)
+    VALUES ('espacios', OLD.IdEspacio, 'db');
+END//
+DELIMITER ;
+SET SQL_MODE=@OLDTMP_SQL_MODE;
+
+-- Volcando estructura para disparador sisintupt.trg_espacio_cambios_insert
+SET @OLDTMP_SQL_MODE=@@SQL_MODE, SQL_MODE='NO_ZERO_IN_DATE,NO_ZERO_DATE,NO_ENGINE_SUBSTITUTION';
+DELIMITER //
+CREATE TRIGGER trg_espacio_cambios_insert
+AFTER INSERT ON espacio
+FOR EACH ROW
+BEGIN
+    -- Registrar el cambio para que todos los nodos invaliden su caché de espacios
+    INSERT INTO cambios_cache (Cache, Clave, Nodo)
+    VALUES ('espacios', NEW.IdEspacio, 'db');
+END//
+DELIMITER ;
+SET SQL_MODE=@OLDTMP_SQL_MODE;
+
+-- Volcando estructura para disparador sisintupt.trg_espacio_cambios_update
+SET @OLDTMP_SQL_MODE=@@SQL_MODE, SQL_MODE='NO_ZERO_IN_DATE,NO_ZERO_DATE,NO_ENGINE_SUBSTITUTION';
+DELIMITER //
+CREATE TRIGGER trg_espacio_cambios_update
+AFTER UPDATE ON espacio
+FOR EACH ROW
+BEGIN
+    -- Registrar el cambio para que todos los nodos invaliden su caché de espacios
+    INSERT INTO cambios_cache (Cache, Clave, Nodo)
+    VALUES ('espacios', NEW.IdEspacio, 'db');
+END//
+DELIMITER ;
+SET SQL_MODE=@OLDTMP_SQL_MODE;
+
+-- Volcando estructura para disparador sisintupt.trg_eventos_cambios_delete
+SET @OLDTMP_SQL_MODE=@@SQL_MODE, SQL_MODE='NO_ZERO_IN_DATE,NO_ZERO_DATE,NO_ENGINE_SUBSTITUTION';
+DELIMITER //
+CREATE TRIGGER trg_eventos_cambios_delete
+AFTER DELETE ON eventos
+FOR EACH ROW
+BEGIN
+    -- Registrar el cambio para que todos los nodos invaliden su caché de eventos
+    INSERT INTO cambios_cache (Cache, Clave, Nodo)
+    VALUES ('eventos', OLD.id, 'db');
+END//
+DELIMITER ;
+SET SQL_MODE=@OLDTMP_SQL_MODE;
+
+-- Volcando estructura para disparador sisintupt.trg_eventos_cambios_insert
+SET @OLDTMP_SQL_MODE=@@SQL_MODE, SQL_MODE='NO_ZERO_IN_DATE,NO_ZERO_DATE,NO_ENGINE_SUBSTITUTION';
+DELIMITER //
+CREATE TRIGGER trg_eventos_cambios_insert
+AFTER INSERT ON eventos
+FOR EACH ROW
+BEGIN
+    -- Registrar el cambio para que todos los nodos invaliden su caché de eventos
+    INSERT INTO cambios_cache (Cache, Clave, Nodo)
+    VALUES ('eventos', NEW.id, 'db');
+END//
+DELIMITER ;
+SET SQL_MODE=@OLDTMP_SQL_MODE;
+
+-- Volcando estructura para disparador sisintupt.trg_eventos_cambios_update
+SET @OLDTMP_SQL_MODE=@@SQL_MODE, SQL_MODE='NO_ZERO_IN_DATE,NO_ZERO_DATE,NO_ENGINE_SUBSTITUTION';
+DELIMITER //
+CREATE TRIGGER trg_eventos_cambios_update
+AFTER UPDATE ON eventos
+FOR EACH ROW
+BEGIN
+    -- Registrar el cambio para que todos los nodos invaliden su caché de eventos
+    INSERT INTO cambios_cache (Cache, Clave, Nodo)
+    VALUES ('eventos', NEW.id, 'db');
+END//
+DELIMITER ;
+SET SQL_MODE=@OLDTMP_SQL_MODE;
+
+-- Volcando estructura para disparador sisintupt.trg_facultad_cambios_update
+SET @OLDTMP_SQL_MODE=@@SQL_MODE, SQL_MODE='NO_ZERO_IN_DATE,NO_ZERO_DATE,NO_ENGINE_SUBSTITUTION';
+DELIMITER //
+CREATE TRIGGER trg_facultad_cambios_update
+AFTER UPDATE ON facultad
+FOR EACH ROW
+BEGIN
+    -- Los nombres se copian en el catálogo de espacios: se pide recargarlo completo
+    INSERT INTO cambios_cache (Cache, Clave, Nodo)
+    VALUES ('espacios', NULL, 'db');
+END//
+DELIMITER ;
+SET SQL_MODE=@OLDTMP_SQL_MODE;
+
 -- Volcando estructura para disparador sisintupt.trg_prioridad_reservas
 SET @OLDTMP_SQL_MODE=@@SQL_MODE, SQL_MODE='NO_ZERO_IN_DATE,NO_ZERO_DATE,NO_ENGINE_SUBSTITUTION';
 DELIMITER //
@@ -586,6 +775,47 @@ END//
 DELIMITER ;
 SET SQL_MODE=@OLDTMP_SQL_MODE;
 
+-- Volcando estructura para disparador sisintupt.trg_reserva_analitica_delete
+SET @OLDTMP_SQL_MODE=@@SQL_MODE, SQL_MODE='NO_ZERO_IN_DATE,NO_ZERO_DATE,NO_ENGINE_SUBSTITUTION';
+DELIMITER //
+CREATE TRIGGER trg_reserva_analitica_delete
+AFTER DELETE ON reserva
+FOR EACH ROW
+BEGIN
+    CALL sp_analitica_registrar(OLD.espacio, OLD.bloque, OLD.fechaReserva, OLD.estado, -1);
+END//
+DELIMITER ;
+SET SQL_MODE=@OLDTMP_SQL_MODE;
+
+-- Volcando estructura para disparador sisintupt.trg_reserva_analitica_insert
+SET @OLDTMP_SQL_MODE=@@SQL_MODE, SQL_MODE='NO_ZERO_IN_DATE,NO_ZERO_DATE,NO_ENGINE_SUBSTITUTION';
+DELIMITER //
+CREATE TRIGGER trg_reserva_analitica_insert
+AFTER INSERT ON reserva
+FOR EACH ROW
+BEGIN
+    CALL sp_analitica_registrar(NEW.espacio, NEW.bloque, NEW.fechaReserva, NEW.estado, 1);
+END//
+DELIMITER ;
+SET SQL_MODE=@OLDTMP_SQL_MODE;
+
+-- Volcando estructura para disparador sisintupt.trg_reserva_analitica_update
+SET @OLDTMP_SQL_MODE=@@SQL_MODE, SQL_MODE='NO_ZERO_IN_DATE,NO_ZERO_DATE,NO_ENGINE_SUBSTITUTION';
+DELIMITER //
+CREATE TRIGGER trg_reserva_analitica_update
+AFTER UPDATE ON reserva
+FOR EACH ROW
+BEGIN
+    -- Aprobaciones, rechazos (incluidos los de trg_prioridad_reservas) y cancelaciones
+    IF NOT (OLD.estado <=> NEW.estado AND OLD.espacio <=> NEW.espacio
+            AND OLD.bloque <=> NEW.bloque AND OLD.fechaReserva <=> NEW.fechaReserva) THEN
+        CALL sp_analitica_registrar(OLD.espacio, OLD.bloque, OLD.fechaReserva, OLD.estado, -1);
+        CALL sp_analitica_registrar(NEW.espacio, NEW.bloque, NEW.fechaReserva, NEW.estado, 1);
+    END IF;
+END//
+DELIMITER ;
+SET SQL_MODE=@OLDTMP_SQL_MODE;
+
 /*!40103 SET TIME_ZONE=IFNULL(@OLD_TIME_ZONE, 'system') */;
 /*!40101 SET SQL_MODE=IFNULL(@OLD_SQL_MODE, '') */;
 /*!40014 SET FOREIGN_KEY_CHECKS=IFNULL(@OLD_FOREIGN_KEY_CHECKS, 1) */;